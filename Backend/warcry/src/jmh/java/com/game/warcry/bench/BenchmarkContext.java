@@ -0,0 +1,27 @@
+package com.game.warcry.bench;
+
+import com.game.warcry.WarcrybackApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트. 프로필 없이 임베디드 H2로 기동합니다.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(WarcrybackApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.flyway.enabled=false",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .logStartupInfo(false)
+                .run();
+    }
+}
@@ -0,0 +1,105 @@
+package com.game.warcry.bench;
+
+import com.game.warcry.model.GameServer;
+import com.game.warcry.model.Match;
+import com.game.warcry.model.MatchUser;
+import com.game.warcry.model.User;
+import com.game.warcry.repository.GameServerRepository;
+import com.game.warcry.repository.MatchRepository;
+import com.game.warcry.repository.MatchUserRepository;
+import com.game.warcry.repository.UserRepository;
+import com.game.warcry.service.RankService;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 시드 데이터 (임베디드 H2).
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    // 유저 + 초기 레이팅 생성
+    public static List<Long> seedPlayers(ApplicationContext context, int count) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        RankService rankService = context.getBean(RankService.class);
+
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .username("player" + i)
+                    .password("not-used")
+                    .nickname("nick" + i)
+                    .build());
+        }
+
+        List<Long> ids = new ArrayList<>(count);
+        for (User user : userRepository.saveAll(users)) {
+            rankService.initializeUserRating(user.getId());
+            ids.add(user.getId());
+        }
+        return ids;
+    }
+
+    // 종료된 1:1 매치 생성 후 랭킹 반영 (rating_history, daily_stats 생성)
+    public static void seedPlayedMatches(ApplicationContext context, List<Long> userIds, int count) {
+        RankService rankService = context.getBean(RankService.class);
+        for (int i = 0; i < count; i++) {
+            Long winner = userIds.get(i % userIds.size());
+            Long loser = userIds.get((i + 1) % userIds.size());
+            Match match = createMatch(context, "played " + i, true, winner, loser);
+            rankService.processMatchResult(match.getId(), List.of(winner), List.of(loser));
+        }
+    }
+
+    // 대기 중인 매치 생성 (listen = Listen Server 매치, 아니면 전용 서버 매치)
+    public static void seedOpenMatches(ApplicationContext context, List<Long> userIds, int count, boolean listen) {
+        for (int i = 0; i < count; i++) {
+            createMatch(context, (listen ? "listen " : "dedicated ") + i, listen,
+                    userIds.get(i % userIds.size()), null);
+        }
+    }
+
+    private static Match createMatch(ApplicationContext context, String title, boolean listen,
+                                     Long hostId, Long guestId) {
+        MatchRepository matchRepository = context.getBean(MatchRepository.class);
+        MatchUserRepository matchUserRepository = context.getBean(MatchUserRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        GameServerRepository gameServerRepository = context.getBean(GameServerRepository.class);
+
+        Match.MatchBuilder builder = Match.builder()
+                .title(title)
+                .isPrivate(false);
+        if (listen) {
+            builder.hostIp("10.0." + (title.hashCode() & 0xff) + ".1")
+                    .hostPort(10000 + (title.hashCode() & 0x7fff));
+        } else {
+            GameServer server = gameServerRepository.findAll().get(0);
+            builder.gameServer(server);
+        }
+        if (guestId != null) {
+            builder.startTime(LocalDateTime.now());
+        }
+        Match match = matchRepository.save(builder.build());
+
+        matchUserRepository.save(MatchUser.builder()
+                .match(match)
+                .user(userRepository.getReferenceById(hostId))
+                .role(MatchUser.UserRole.HOST)
+                .result(MatchUser.GameResult.NONE)
+                .build());
+        if (guestId != null) {
+            matchUserRepository.save(MatchUser.builder()
+                    .match(match)
+                    .user(userRepository.getReferenceById(guestId))
+                    .role(MatchUser.UserRole.GUEST)
+                    .result(MatchUser.GameResult.NONE)
+                    .build());
+        }
+        return match;
+    }
+}
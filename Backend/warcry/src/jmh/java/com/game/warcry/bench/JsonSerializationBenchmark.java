@@ -0,0 +1,81 @@
+package com.game.warcry.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.game.warcry.dto.match.MatchListResponse;
+import com.game.warcry.dto.rank.LeaderboardPlayerDTO;
+import com.game.warcry.dto.rank.LeaderboardResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리더보드 / 매치 목록 응답 Jackson 직렬화.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private LeaderboardResponse leaderboard;
+    private MatchListResponse matchList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+        List<LeaderboardPlayerDTO> players = new ArrayList<>(size);
+        List<MatchListResponse.MatchItem> matches = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            players.add(LeaderboardPlayerDTO.builder()
+                    .rank((long) i + 1)
+                    .userId((long) i + 1)
+                    .nickname("player" + i)
+                    .points(500 - i)
+                    .tier(1 + i % 4)
+                    .wins(i)
+                    .losses(i / 2)
+                    .build());
+            matches.add(MatchListResponse.MatchItem.builder()
+                    .matchId((long) i + 1)
+                    .title("match " + i)
+                    .hostNickname("host" + i)
+                    .isPrivate(i % 3 == 0)
+                    .status("WAITING")
+                    .build());
+        }
+
+        leaderboard = LeaderboardResponse.builder()
+                .success(true)
+                .totalPlayers(10_000L)
+                .page(0)
+                .size(size)
+                .hasNext(true)
+                .players(players)
+                .build();
+        matchList = MatchListResponse.builder()
+                .success(true)
+                .matches(matches)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] leaderboardResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(leaderboard);
+    }
+
+    @Benchmark
+    public byte[] matchListResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(matchList);
+    }
+}
@@ -0,0 +1,64 @@
+package com.game.warcry.bench;
+
+import com.game.warcry.security.jwt.JWTUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTUtil 토큰 발급과 검증 (검증 캐시 히트 / 캐시 없는 Nimbus 검증).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "change-this-secret-string-to-32bytes-min";
+
+    private AnnotationConfigApplicationContext context;
+    private JWTUtil jwtUtil;
+    private JwtDecoder uncachedDecoder;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // JWTUtil만 등록한 최소 컨텍스트 (@Value 기본값, @PostConstruct 적용)
+        context = new AnnotationConfigApplicationContext(JWTUtil.class);
+        jwtUtil = context.getBean(JWTUtil.class);
+        uncachedDecoder = NimbusJwtDecoder
+                .withSecretKey(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        token = jwtUtil.generate(1L, "bench", "bench-nick");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generate(1L, "bench", "bench-nick");
+    }
+
+    @Benchmark
+    public String verifyCached() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public Jwt verifyUncached() {
+        return uncachedDecoder.decode(token);
+    }
+}
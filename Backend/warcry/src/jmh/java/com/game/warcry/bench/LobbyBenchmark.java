@@ -0,0 +1,60 @@
+package com.game.warcry.bench;
+
+import com.game.warcry.dto.listen.ListenMatchListResponse;
+import com.game.warcry.dto.match.MatchListResponse;
+import com.game.warcry.service.ListenMatchService;
+import com.game.warcry.service.MatchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로비(매치 목록) 조립 경로 (임베디드 H2). 대기 매치와 함께 종료된 매치 이력도 시드합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LobbyBenchmark {
+
+    @Param({"50"})
+    private int openMatches;
+
+    @Param({"2000"})
+    private int endedMatches;
+
+    private ConfigurableApplicationContext context;
+    private MatchService matchService;
+    private ListenMatchService listenMatchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        matchService = context.getBean(MatchService.class);
+        listenMatchService = context.getBean(ListenMatchService.class);
+
+        List<Long> userIds = BenchmarkData.seedPlayers(context, 200);
+        BenchmarkData.seedPlayedMatches(context, userIds, endedMatches);
+        BenchmarkData.seedOpenMatches(context, userIds, openMatches, true);
+        BenchmarkData.seedOpenMatches(context, userIds, openMatches, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MatchListResponse dedicatedLobby() {
+        return matchService.getMatches(null, "WAITING", 10);
+    }
+
+    @Benchmark
+    public ListenMatchListResponse listenLobby() {
+        return listenMatchService.getMatches(null, "WAITING", 10);
+    }
+}
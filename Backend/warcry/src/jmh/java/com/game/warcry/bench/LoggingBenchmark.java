@@ -0,0 +1,116 @@
+package com.game.warcry.bench;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.game.warcry.logging.CountingAsyncAppender;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드에서 본 로그 한 줄의 비용. 동기 파일 appender와 비동기 appender(제한된 큐, neverBlock)를
+ * 패턴 / JSON 인코더별로 비교합니다. 비동기 쪽은 큐가 차면 INFO 로그를 버리므로 종료 시 버린 수를 함께 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async"})
+    private String mode;
+
+    @Param({"pattern", "json"})
+    private String format;
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+    private File logFile;
+    private long droppedBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("warcry-logging-bench", ".log").toFile();
+
+        loggerContext = new LoggerContext();
+        loggerContext.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(loggerContext);
+        file.setName("FILE");
+        file.setFile(logFile.getAbsolutePath());
+        file.setEncoder(encoder());
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (mode.equals("async")) {
+            CountingAsyncAppender async = new CountingAsyncAppender();
+            async.setContext(loggerContext);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(819);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        logger = loggerContext.getLogger("com.game.warcry.bench");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        droppedBefore = CountingAsyncAppender.getDroppedCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggerContext.stop();
+        System.out.printf("%n[%s/%s] dropped events: %d%n", mode, format,
+                CountingAsyncAppender.getDroppedCount() - droppedBefore);
+        logFile.delete();
+    }
+
+    @Benchmark
+    public void logMatchJoined(ThreadIndex index) {
+        logger.info("매치 참가: matchId={}, userId={}, role={}", index.next(), index.id, "GUEST");
+    }
+
+    private Encoder<ILoggingEvent> encoder() {
+        if (format.equals("json")) {
+            StructuredLogEncoder json = new StructuredLogEncoder();
+            json.setContext(loggerContext);
+            json.setFormat("logstash");
+            json.start();
+            return json;
+        }
+        PatternLayoutEncoder pattern = new PatternLayoutEncoder();
+        pattern.setContext(loggerContext);
+        pattern.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level [%thread] %logger{36} : %msg%n");
+        pattern.start();
+        return pattern;
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadIndex {
+        private final long id = Thread.currentThread().threadId();
+        private long counter;
+
+        long next() {
+            return counter++;
+        }
+    }
+}
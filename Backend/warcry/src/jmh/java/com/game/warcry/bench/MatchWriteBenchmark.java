@@ -0,0 +1,79 @@
+package com.game.warcry.bench;
+
+import com.game.warcry.dto.listen.ListenMatchCreateRequest;
+import com.game.warcry.dto.listen.ListenMatchJoinRequest;
+import com.game.warcry.dto.listen.ListenMatchResultRequest;
+import com.game.warcry.service.ListenMatchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매치 생성 / 결과 저장 쓰기 경로 (임베디드 H2). batchSize=1 이 배치 미사용 기준선입니다.
+ * 실제 왕복 비용이 드러나도록 PostgreSQL 에서 재려면 -p jdbcUrl=jdbc:postgresql://... 로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchWriteBenchmark {
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({""})
+    private String jdbcUrl;
+
+    private ConfigurableApplicationContext context;
+    private ListenMatchService listenMatchService;
+    private List<Long> userIds;
+    private int sequence;
+
+    private static final ListenMatchResultRequest RESULT = ListenMatchResultRequest.builder()
+            .results(List.of(
+                    ListenMatchResultRequest.PlayerResult.builder().role("HOST").result("WIN").build(),
+                    ListenMatchResultRequest.PlayerResult.builder().role("GUEST").result("LOSE").build()))
+            .build();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "spring.jpa.properties.hibernate.order_inserts=true",
+                "spring.jpa.properties.hibernate.order_updates=true"));
+        if (!jdbcUrl.isEmpty()) {
+            properties.add("spring.datasource.url=" + jdbcUrl);
+            properties.add("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true");
+        }
+        context = BenchmarkContext.start(properties.toArray(String[]::new));
+        listenMatchService = context.getBean(ListenMatchService.class);
+        userIds = BenchmarkData.seedPlayers(context, 200);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 생성 → 참가 → 결과 저장 (matches, match_users, ratings, rating_history, daily_stats 쓰기)
+    @Benchmark
+    public Object createJoinAndCommitResult() {
+        int n = sequence++;
+        Long host = userIds.get(n % userIds.size());
+        Long guest = userIds.get((n + 1) % userIds.size());
+
+        Long matchId = listenMatchService.createMatch(host, ListenMatchCreateRequest.builder()
+                .title("bench " + n)
+                .isPrivate(false)
+                .hostIp("10." + (n >> 16 & 0xff) + "." + (n >> 8 & 0xff) + "." + (n & 0xff))
+                .hostPort(7777)
+                .build()).getMatchId();
+        listenMatchService.joinMatch(matchId, guest, new ListenMatchJoinRequest(null));
+        return listenMatchService.saveMatchResult(matchId, host, RESULT);
+    }
+}
@@ -0,0 +1,86 @@
+package com.game.warcry.bench;
+
+import com.game.warcry.dto.rank.LeaderboardResponse;
+import com.game.warcry.dto.rank.RankHistoryResponse;
+import com.game.warcry.dto.rank.RankPlayerResponse;
+import com.game.warcry.dto.rank.TierDistributionResponse;
+import com.game.warcry.service.RankService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 랭크 조회 경로 (임베디드 H2).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RankBenchmark {
+
+    @Param({"500"})
+    private int playerCount;
+
+    @Param({"2000"})
+    private int matchCount;
+
+    private ConfigurableApplicationContext context;
+    private RankService rankService;
+    private TransactionTemplate readOnlyTx;
+    private List<Long> userIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        rankService = context.getBean(RankService.class);
+        readOnlyTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+
+        userIds = BenchmarkData.seedPlayers(context, playerCount);
+        BenchmarkData.seedPlayedMatches(context, userIds, matchCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private Long nextUserId() {
+        cursor = (cursor + 1) % userIds.size();
+        return userIds.get(cursor);
+    }
+
+    @Benchmark
+    public LeaderboardResponse leaderboardFirstPage() {
+        return rankService.getLeaderboard(null, 0, 20);
+    }
+
+    @Benchmark
+    public LeaderboardResponse leaderboardByTier() {
+        return rankService.getLeaderboard(4, 0, 20);
+    }
+
+    @Benchmark
+    public RankPlayerResponse playerRank() {
+        return rankService.getPlayerRank(nextUserId());
+    }
+
+    // 요청 단위 영속성 컨텍스트(OSIV)와 같은 조건을 위해 읽기 트랜잭션 안에서 호출
+    @Benchmark
+    public RankHistoryResponse matchHistory() {
+        Long userId = nextUserId();
+        return readOnlyTx.execute(status -> rankService.getMatchHistory(userId, 0, 10));
+    }
+
+    @Benchmark
+    public TierDistributionResponse tierDistribution() {
+        return rankService.getTierDistribution();
+    }
+}
@@ -0,0 +1,39 @@
+package com.game.warcry.bench;
+
+import com.game.warcry.model.Rating;
+import com.game.warcry.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rating 승패 반영 로직 (순수 도메인 연산).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RatingBenchmark {
+
+    private Rating rating;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        User user = User.builder().id(1L).username("bench").nickname("bench").build();
+        rating = Rating.initializeRating(user);
+    }
+
+    @Benchmark
+    public Rating updateForWin() {
+        rating.updateForWin();
+        return rating;
+    }
+
+    @Benchmark
+    public Rating updateForLoss() {
+        rating.updateForLoss();
+        return rating;
+    }
+}
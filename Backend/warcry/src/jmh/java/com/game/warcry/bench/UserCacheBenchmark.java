@@ -0,0 +1,88 @@
+package com.game.warcry.bench;
+
+import com.game.warcry.cache.UserCache;
+import com.game.warcry.model.User;
+import com.game.warcry.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserCache와 UserRepository 직접 조회 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserCacheBenchmark {
+
+    @Param({"1000"})
+    private int userCount;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserCache userCache;
+
+    private String[] usernames;
+    private Long[] userIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userRepository = context.getBean(UserRepository.class);
+        userCache = context.getBean(UserCache.class);
+
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(User.builder()
+                    .username("bench" + i)
+                    .password("not-used")
+                    .nickname("nick" + i)
+                    .build());
+        }
+        List<User> saved = userRepository.saveAll(users);
+
+        usernames = new String[saved.size()];
+        userIds = new Long[saved.size()];
+        for (int i = 0; i < saved.size(); i++) {
+            usernames[i] = saved.get(i).getUsername();
+            userIds[i] = saved.get(i).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private int next() {
+        cursor = (cursor + 1) % usernames.length;
+        return cursor;
+    }
+
+    @Benchmark
+    public Long repositoryFindByUsername() {
+        return userRepository.findByUsername(usernames[next()]).map(User::getId).orElse(null);
+    }
+
+    @Benchmark
+    public Long cacheFindByUsername() {
+        return userCache.findByUsername(usernames[next()]).map(UserCache.CachedUser::id).orElse(null);
+    }
+
+    @Benchmark
+    public String repositoryFindById() {
+        return userRepository.findById(userIds[next()]).map(User::getNickname).orElse(null);
+    }
+
+    @Benchmark
+    public String cacheFindById() {
+        return userCache.findById(userIds[next()]).map(UserCache.CachedUser::nickname).orElse(null);
+    }
+}
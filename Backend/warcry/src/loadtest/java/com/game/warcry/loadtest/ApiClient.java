@@ -0,0 +1,84 @@
+package com.game.warcry.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Unity 클라이언트와 같은 순서로 API를 호출하는 HTTP 클라이언트. 모든 호출의 지연 시간을 엔드포인트별로 기록합니다.
+ */
+final class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    ApiClient(HttpClient http, String baseUrl, Duration requestTimeout) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    record Result(int status, JsonNode body) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    Result get(String endpoint, String path, String token) throws InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        return send(endpoint, builder, token);
+    }
+
+    Result post(String endpoint, String path, Object body, String token) throws InterruptedException {
+        String json;
+        try {
+            json = MAPPER.writeValueAsString(body == null ? Map.of() : body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        return send(endpoint, builder, token);
+    }
+
+    Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    private Result send(String endpoint, HttpRequest.Builder builder, String token) throws InterruptedException {
+        builder.timeout(requestTimeout);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        long start = System.nanoTime();
+        int status;
+        JsonNode body = null;
+        try {
+            HttpResponse<byte[]> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            if (response.body().length > 0) {
+                body = MAPPER.readTree(response.body());
+            }
+        } catch (IOException e) {
+            status = -1; // 연결 실패 / 타임아웃
+        }
+        long micros = (System.nanoTime() - start) / 1_000;
+        stats.computeIfAbsent(endpoint, k -> new EndpointStats()).record(micros, status);
+        return new Result(status, body);
+    }
+}
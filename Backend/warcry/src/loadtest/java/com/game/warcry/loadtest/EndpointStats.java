@@ -0,0 +1,35 @@
+package com.game.warcry.loadtest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간 / 상태 코드 집계.
+ */
+final class EndpointStats {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    void record(long micros, int status) {
+        latency.record(micros);
+        statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            errors.increment();
+        }
+    }
+
+    LatencyHistogram latency() {
+        return latency;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    ConcurrentMap<Integer, LongAdder> statusCounts() {
+        return statusCounts;
+    }
+}
@@ -0,0 +1,74 @@
+package com.game.warcry.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마이크로초 단위 로그-선형 히스토그램 (유효숫자 약 2자리, 상대 오차 1% 이하).
+ * 기록 경로는 락/할당 없이 AtomicLongArray 증가만 수행합니다.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 64;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2; // 0~127us는 1us 단위
+    private static final int MAX_SHIFT = 30;                 // 최대 약 2^36us
+    private static final int SIZE = LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SIZE);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+    void record(long micros) {
+        long v = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(v));
+        total.increment();
+        max.accumulate(v);
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    // 분위수 (마이크로초)
+    long percentile(double p) {
+        long n = total.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < SIZE; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(valueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int indexOf(long v) {
+        if (v < LINEAR_LIMIT) {
+            return (int) v;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(v)) - 6; // v >> shift ∈ [64, 127]
+        if (shift > MAX_SHIFT) {
+            return SIZE - 1;
+        }
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) ((v >> shift) - SUB_BUCKETS);
+    }
+
+    // 버킷의 상한값
+    private static long valueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long mantissa = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
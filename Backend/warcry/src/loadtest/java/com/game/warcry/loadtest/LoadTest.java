@@ -0,0 +1,56 @@
+package com.game.warcry.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unity 클라이언트 흐름을 재현하는 엔드투엔드 부하 테스트.
+ * 가상 플레이어 한 쌍당 가상 스레드 하나를 사용하며, 서버는 별도로 띄워 둔 상태여야 합니다.
+ *
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+ * ./gradlew loadTest -Pplayers=500 -Pduration=120 [-Pmode=listen] [-PbaseUrl=...]
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(httpExecutor)
+                    .build();
+            ApiClient api = new ApiClient(http, options.baseUrl(), options.requestTimeout());
+            AtomicLong completedMatches = new AtomicLong();
+
+            System.out.printf("Starting %d virtual players against %s for %ds%n",
+                    options.players(), options.baseUrl(), options.duration().toSeconds());
+
+            long start = System.nanoTime();
+            long deadline = start + options.duration().toNanos();
+            for (int i = 0; i < options.pairs(); i++) {
+                players.submit(new PlayerPair(api, options, i, deadline, completedMatches));
+            }
+            players.shutdown();
+            // 진행 중인 요청이 타임아웃까지 끝날 수 있도록 여유를 둠
+            players.awaitTermination(options.duration().plus(options.requestTimeout()).toSeconds() + 30, TimeUnit.SECONDS);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            LoadTestReport report = new LoadTestReport(options, api.stats(), elapsed, completedMatches.get());
+            report.print(System.out);
+            report.write();
+            System.out.println("Report written to " + options.reportFile().toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.game.warcry.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 두 부하 테스트 결과(JSON)를 엔드포인트별로 나란히 비교합니다.
+ * 플랫폼 스레드 / 가상 스레드 서버를 같은 조건으로 돌린 결과를 비교하는 용도입니다.
+ *
+ * <pre>
+ * VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+ * ./gradlew loadTest -Pplayers=10000 -PloadTestLabel=platform -PloadTestResults=platform.json
+ * VIRTUAL_THREADS_ENABLED=true ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+ * ./gradlew loadTest -Pplayers=10000 -PloadTestLabel=virtual -PloadTestResults=virtual.json
+ * ./gradlew loadTestCompare -Pbaseline=platform.json -Pcandidate=virtual.json
+ * </pre>
+ */
+public final class LoadTestCompare {
+
+    private LoadTestCompare() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("사용법: LoadTestCompare <baseline.json> <candidate.json>");
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode baseline = mapper.readTree(Path.of(args[0]).toFile());
+        JsonNode candidate = mapper.readTree(Path.of(args[1]).toFile());
+        print(System.out, baseline, candidate);
+    }
+
+    static void print(PrintStream out, JsonNode baseline, JsonNode candidate) {
+        out.printf("%n== %s vs %s ==%n", name(baseline), name(candidate));
+        out.printf("players %d / %d, completed matches %d / %d%n",
+                baseline.path("players").asInt(), candidate.path("players").asInt(),
+                baseline.path("completedMatches").asLong(), candidate.path("completedMatches").asLong());
+        out.printf("%-38s %21s %21s %21s %15s%n",
+                "endpoint", "req/s", "p99(ms)", "p999(ms)", "errors");
+
+        TreeSet<String> endpoints = new TreeSet<>();
+        baseline.path("endpoints").fieldNames().forEachRemaining(endpoints::add);
+        candidate.path("endpoints").fieldNames().forEachRemaining(endpoints::add);
+        for (String endpoint : endpoints) {
+            JsonNode b = baseline.path("endpoints").path(endpoint);
+            JsonNode c = candidate.path("endpoints").path(endpoint);
+            out.printf("%-38s %21s %21s %21s %15s%n", endpoint,
+                    pair(b, c, "throughput"), pair(b, c, "p99Ms"), pair(b, c, "p999Ms"),
+                    b.path("errors").asLong() + " / " + c.path("errors").asLong());
+        }
+        printStatuses(out, baseline, candidate);
+    }
+
+    // 503/타임아웃 등 상태 코드 분포 차이 (과부하 시 실패 방식 비교)
+    private static void printStatuses(PrintStream out, JsonNode baseline, JsonNode candidate) {
+        out.printf("%nstatus codes (baseline / candidate)%n");
+        TreeSet<String> statuses = new TreeSet<>();
+        collectStatuses(baseline, statuses);
+        collectStatuses(candidate, statuses);
+        for (String status : statuses) {
+            out.printf("  %-6s %10d / %d%n", status, sumStatus(baseline, status), sumStatus(candidate, status));
+        }
+    }
+
+    private static void collectStatuses(JsonNode report, TreeSet<String> statuses) {
+        report.path("endpoints").forEach(endpoint -> endpoint.path("status").fieldNames().forEachRemaining(statuses::add));
+    }
+
+    private static long sumStatus(JsonNode report, String status) {
+        long sum = 0;
+        Iterator<Map.Entry<String, JsonNode>> it = report.path("endpoints").fields();
+        while (it.hasNext()) {
+            sum += it.next().getValue().path("status").path(status).asLong();
+        }
+        return sum;
+    }
+
+    private static String pair(JsonNode baseline, JsonNode candidate, String field) {
+        return String.format("%.1f / %.1f", baseline.path(field).asDouble(), candidate.path(field).asDouble());
+    }
+
+    private static String name(JsonNode report) {
+        String label = report.path("label").asText();
+        return label.isEmpty() ? report.path("timestamp").asText() : label;
+    }
+}
@@ -0,0 +1,68 @@
+package com.game.warcry.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션. --key=value 형식의 인자를 받습니다.
+ *
+ * <pre>
+ * --base-url=http://localhost:8080  대상 서버
+ * --players=200                     가상 플레이어 수 (호스트/게스트 2명이 한 쌍)
+ * --duration=60                     매치 반복 시간 (초)
+ * --mode=dedicated|listen           전용 서버 매치 / Listen 서버 매치
+ * --think=200                       매치 사이 최대 대기 시간 (ms)
+ * --timeout=10                      요청 타임아웃 (초)
+ * --label=virtual                   결과 비교용 이름 (예: 서버 스레드 모드)
+ * --report=build/reports/loadtest/result.json
+ * </pre>
+ */
+record LoadTestOptions(String baseUrl, int players, Duration duration, boolean listen,
+                       long thinkMillis, long backoffMillis, Duration requestTimeout,
+                       Path reportFile, String label, String runId) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        String mode = values.getOrDefault("mode", "dedicated");
+        if (!mode.equals("dedicated") && !mode.equals("listen")) {
+            throw new IllegalArgumentException("mode는 dedicated 또는 listen 이어야 합니다: " + mode);
+        }
+        int players = Integer.parseInt(values.getOrDefault("players", "100"));
+        if (players < 2) {
+            throw new IllegalArgumentException("players는 2 이상이어야 합니다.");
+        }
+
+        // 실행마다 고유한 아이디 접두사 (기존 계정과 충돌 방지)
+        String runId = "lt" + Long.toString(System.currentTimeMillis(), 36);
+
+        return new LoadTestOptions(
+                stripTrailingSlash(values.getOrDefault("base-url", "http://localhost:8080")),
+                players,
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                mode.equals("listen"),
+                Long.parseLong(values.getOrDefault("think", "200")),
+                Long.parseLong(values.getOrDefault("backoff", "100")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout", "10"))),
+                Path.of(values.getOrDefault("report", "build/reports/loadtest/result.json")),
+                values.getOrDefault("label", ""),
+                runId);
+    }
+
+    int pairs() {
+        return players / 2;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
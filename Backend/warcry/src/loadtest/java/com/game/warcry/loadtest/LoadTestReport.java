@@ -0,0 +1,89 @@
+package com.game.warcry.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔드포인트별 처리량과 p50/p99/p999 지연 시간을 콘솔 표와 JSON 파일로 출력합니다.
+ * JSON은 변경 전후 실행 결과를 비교하는 용도로 사용합니다.
+ */
+final class LoadTestReport {
+
+    private final LoadTestOptions options;
+    private final Map<String, EndpointStats> stats;
+    private final Duration elapsed;
+    private final long completedMatches;
+
+    LoadTestReport(LoadTestOptions options, Map<String, EndpointStats> stats, Duration elapsed, long completedMatches) {
+        this.options = options;
+        this.stats = new TreeMap<>(stats);
+        this.elapsed = elapsed;
+        this.completedMatches = completedMatches;
+    }
+
+    void print(PrintStream out) {
+        double seconds = seconds();
+        out.printf("%n== WarCry load test%s: %d players (%s), %.1fs, %d matches completed ==%n",
+                options.label().isEmpty() ? "" : " [" + options.label() + "]",
+                options.players(), options.listen() ? "listen" : "dedicated", seconds, completedMatches);
+        out.printf("%-38s %9s %9s %7s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        stats.forEach((endpoint, s) -> {
+            LatencyHistogram h = s.latency();
+            out.printf("%-38s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, h.count(), h.count() / seconds, s.errors(),
+                    millis(h.percentile(50)), millis(h.percentile(99)), millis(h.percentile(99.9)), millis(h.max()));
+        });
+    }
+
+    void write() throws IOException {
+        double seconds = seconds();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((endpoint, s) -> {
+            LatencyHistogram h = s.latency();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("count", h.count());
+            entry.put("throughput", h.count() / seconds);
+            entry.put("errors", s.errors());
+            Map<String, Long> statuses = new TreeMap<>();
+            s.statusCounts().forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+            entry.put("status", statuses);
+            entry.put("p50Ms", millis(h.percentile(50)));
+            entry.put("p99Ms", millis(h.percentile(99)));
+            entry.put("p999Ms", millis(h.percentile(99.9)));
+            entry.put("maxMs", millis(h.max()));
+            endpoints.put(endpoint, entry);
+        });
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("timestamp", Instant.now().toString());
+        root.put("label", options.label());
+        root.put("baseUrl", options.baseUrl());
+        root.put("players", options.players());
+        root.put("mode", options.listen() ? "listen" : "dedicated");
+        root.put("durationSeconds", seconds);
+        root.put("completedMatches", completedMatches);
+        root.put("endpoints", endpoints);
+
+        Files.createDirectories(options.reportFile().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(options.reportFile().toFile(), root);
+    }
+
+    private double seconds() {
+        return Math.max(elapsed.toMillis(), 1) / 1000.0;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
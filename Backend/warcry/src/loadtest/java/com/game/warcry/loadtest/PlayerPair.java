@@ -0,0 +1,138 @@
+package com.game.warcry.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호스트/게스트 두 명의 가상 플레이어. 하나의 가상 스레드에서 Unity 클라이언트 흐름을 반복합니다.
+ * 회원가입 → 로그인 → (로비 조회 → 매치 생성 → 참가 → 결과 저장 → 랭크 조회) 반복
+ */
+final class PlayerPair implements Runnable {
+
+    private static final String PASSWORD = "loadtest-pass";
+    // Listen 서버 포트 범위 (1024 ~ 65535)
+    private static final int FIRST_PORT = 1024;
+    private static final int PORT_COUNT = 65536 - FIRST_PORT;
+
+    private final ApiClient api;
+    private final LoadTestOptions options;
+    private final int index;
+    private final long deadlineNanos;
+    private final AtomicLong completedMatches;
+
+    private Player host;
+    private Player guest;
+    private int createdMatches;
+
+    PlayerPair(ApiClient api, LoadTestOptions options, int index, long deadlineNanos, AtomicLong completedMatches) {
+        this.api = api;
+        this.options = options;
+        this.index = index;
+        this.deadlineNanos = deadlineNanos;
+        this.completedMatches = completedMatches;
+    }
+
+    private record Player(String username, long userId, String token) {}
+
+    @Override
+    public void run() {
+        try {
+            host = enter("h" + index);
+            guest = enter("g" + index);
+            if (host == null || guest == null) {
+                return;
+            }
+            while (System.nanoTime() < deadlineNanos) {
+                playOneMatch();
+                think();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Player enter(String role) throws InterruptedException {
+        String username = options.runId() + role;
+        ApiClient.Result signup = postUntilAdmitted("POST /api/auth/signup", "/api/auth/signup",
+                Map.of("username", username, "password", PASSWORD, "nickname", username));
+        if (!signup.ok()) {
+            return null;
+        }
+        ApiClient.Result login = postUntilAdmitted("POST /api/auth/login", "/api/auth/login",
+                Map.of("username", username, "password", PASSWORD));
+        if (!login.ok()) {
+            return null;
+        }
+        return new Player(username, signup.body().path("id").asLong(), login.body().path("accessToken").asText());
+    }
+
+    // BCrypt 풀이 포화되면 429 (클라이언트처럼 잠시 후 재시도, 거절된 요청은 에러로 집계됨)
+    private ApiClient.Result postUntilAdmitted(String endpoint, String path, Map<String, Object> body)
+            throws InterruptedException {
+        ApiClient.Result result = api.post(endpoint, path, body, null);
+        while (result.status() == 429 && System.nanoTime() < deadlineNanos) {
+            Thread.sleep(options.backoffMillis() + ThreadLocalRandom.current().nextLong(options.backoffMillis() + 1));
+            result = api.post(endpoint, path, body, null);
+        }
+        return result;
+    }
+
+    private void playOneMatch() throws InterruptedException {
+        String base = options.listen() ? "/api/listen/match" : "/api/match";
+
+        // 두 플레이어 모두 로비 목록 조회
+        api.get("GET " + base, base + "?status=WAITING&limit=10", host.token());
+        api.get("GET " + base, base + "?status=WAITING&limit=10", guest.token());
+
+        ApiClient.Result created = api.post("POST " + base, base, createBody(), host.token());
+        if (!created.ok()) {
+            // 전용 서버 부족(503) 등은 에러로 집계하고 잠시 후 재시도
+            Thread.sleep(options.backoffMillis());
+            return;
+        }
+        long matchId = created.body().path("matchId").asLong();
+
+        ApiClient.Result joined = api.post("POST " + base + "/{id}/join", base + "/" + matchId + "/join",
+                Map.of("password", ""), guest.token());
+        if (!joined.ok()) {
+            api.post("POST " + base + "/{id}/host-leave", base + "/" + matchId + "/host-leave", null, host.token());
+            return;
+        }
+
+        boolean hostWins = ThreadLocalRandom.current().nextBoolean();
+        Map<String, Object> result = Map.of("results", List.of(
+                Map.of("role", "HOST", "result", hostWins ? "WIN" : "LOSE"),
+                Map.of("role", "GUEST", "result", hostWins ? "LOSE" : "WIN")));
+        ApiClient.Result saved = api.post("POST " + base + "/{id}/result", base + "/" + matchId + "/result",
+                result, host.token());
+        if (saved.ok()) {
+            completedMatches.incrementAndGet();
+        }
+
+        rank(host);
+        rank(guest);
+    }
+
+    private Map<String, Object> createBody() {
+        if (options.listen()) {
+            // Listen 서버는 IP/PORT 조합이 끝난 매치까지 포함해 유일해야 하므로 페어마다 IP를, 매치마다 포트를 바꿈
+            int port = FIRST_PORT + createdMatches++ % PORT_COUNT;
+            return Map.of("title", "loadtest-" + index, "isPrivate", false, "password", "",
+                    "hostIp", "10.0." + (index / 250) + "." + (index % 250 + 1), "hostPort", port);
+        }
+        return Map.of("title", "loadtest-" + index, "isPrivate", false, "password", "");
+    }
+
+    private void rank(Player player) throws InterruptedException {
+        api.get("GET /api/rank/player/{id}", "/api/rank/player/" + player.userId(), player.token());
+    }
+
+    private void think() throws InterruptedException {
+        long max = options.thinkMillis();
+        if (max > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(max + 1));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.game.warcry.cache;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 인스턴스 간에 전달하는 캐시 무효화 메시지 하나.
+ * NOTIFY 페이로드(최대 8000바이트)에 여러 개를 함께 싣도록 "u:12", "g:3", "l" 처럼 짧은 문자열로 인코딩합니다.
+ * username 은 구분자(",", "|", ":")와 비 ASCII 문자가 섞이지 않도록 URL 인코딩해 "n:alice%2C1" 처럼 싣습니다.
+ *
+ * @param region   무효화 대상
+ * @param id       USER / GAME_SERVER 의 행 ID (나머지는 null)
+ * @param username USERNAME 의 가입된 username (나머지는 null)
+ */
+public record CacheInvalidation(Region region, Long id, String username) {
+
+    private static final String SEPARATOR = ",";
+
+    public enum Region {
+        USER("u"),          // users 행 (유저 캐시, 2차 캐시 엔티티/natural-id, 쿼리 캐시)
+        GAME_SERVER("g"),   // game_servers 행 (2차 캐시 엔티티)
+        LOBBY("l"),         // 매치 목록 (로비 조회 결과 재사용분)
+        RANK("r"),          // 레이팅 (리더보드/순위/통계 조회 결과 재사용분)
+        USERNAME("n"),      // 새로 가입된 username (username Bloom 필터에 추가)
+        ALL("*");           // 전체 (수신이 끊겨 메시지를 놓쳤을 수 있는 경우)
+
+        private final String code;
+
+        Region(String code) {
+            this.code = code;
+        }
+
+        static Region ofCode(String code) {
+            for (Region region : values()) {
+                if (region.code.equals(code)) {
+                    return region;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 무효화 대상: " + code);
+        }
+    }
+
+    public CacheInvalidation(Region region, Long id) {
+        this(region, id, null);
+    }
+
+    public static CacheInvalidation user(Long userId) {
+        return new CacheInvalidation(Region.USER, userId);
+    }
+
+    public static CacheInvalidation gameServer(Long gameServerId) {
+        return new CacheInvalidation(Region.GAME_SERVER, gameServerId);
+    }
+
+    public static CacheInvalidation lobby() {
+        return new CacheInvalidation(Region.LOBBY, null);
+    }
+
+    public static CacheInvalidation rank() {
+        return new CacheInvalidation(Region.RANK, null);
+    }
+
+    public static CacheInvalidation username(String username) {
+        return new CacheInvalidation(Region.USERNAME, null, username);
+    }
+
+    public static CacheInvalidation all() {
+        return new CacheInvalidation(Region.ALL, null);
+    }
+
+    public String encode() {
+        if (username != null) {
+            return region.code + ":" + URLEncoder.encode(username, StandardCharsets.UTF_8);
+        }
+        return id == null ? region.code : region.code + ":" + id;
+    }
+
+    public static CacheInvalidation decode(String value) {
+        int colon = value.indexOf(':');
+        if (colon < 0) {
+            return new CacheInvalidation(Region.ofCode(value), null);
+        }
+        Region region = Region.ofCode(value.substring(0, colon));
+        String argument = value.substring(colon + 1);
+        if (region == Region.USERNAME) {
+            return username(URLDecoder.decode(argument, StandardCharsets.UTF_8));
+        }
+        return new CacheInvalidation(region, Long.valueOf(argument));
+    }
+
+    public static String encodeAll(Collection<CacheInvalidation> invalidations) {
+        return invalidations.stream().map(CacheInvalidation::encode).collect(Collectors.joining(SEPARATOR));
+    }
+
+    public static List<CacheInvalidation> decodeAll(String value) {
+        return decodeAll(value, part -> {
+            throw new IllegalArgumentException("알 수 없는 무효화 메시지: " + part);
+        });
+    }
+
+    // 항목마다 따로 디코딩: 해석할 수 없는 항목(새 버전에서 추가된 대상 등)은 onInvalid 로 넘기고 나머지는 그대로 반환
+    public static List<CacheInvalidation> decodeAll(String value, Consumer<String> onInvalid) {
+        List<CacheInvalidation> invalidations = new ArrayList<>();
+        for (String part : value.split(SEPARATOR)) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            try {
+                invalidations.add(decode(part));
+            } catch (IllegalArgumentException e) {
+                onInvalid.accept(part);
+            }
+        }
+        return invalidations;
+    }
+}
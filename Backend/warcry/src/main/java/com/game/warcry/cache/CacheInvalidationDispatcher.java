@@ -0,0 +1,76 @@
+package com.game.warcry.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 쓰기 경로가 바꾼 캐시 대상을 이 인스턴스와 다른 인스턴스에 알립니다.
+ * - 이 인스턴스: 요청 병합({@link Coalesced})이 공유 중인 로비/랭크 조회 결과를 커밋 직후(afterCommit) 버립니다.
+ *   인스턴스 간 무효화 설정과 관계없이 항상 동작하며, 커밋 뒤에 들어온 호출이 커밋 전에 시작된 조회에 합류하지 않게 합니다.
+ *   유저/게임 서버 엔티티는 같은 트랜잭션에서 Hibernate 2차 캐시와 유저 캐시가 직접 갱신되므로 따로 할 일이 없습니다.
+ * - 다른 인스턴스: cache-invalidation.enabled 이면 {@link CacheInvalidationPublisher}로 커밋과 함께 전달합니다.
+ * 트랜잭션 밖에서 호출하면 바로 적용합니다.
+ */
+@Component
+public class CacheInvalidationDispatcher {
+
+    private final ObjectProvider<CoalescingInterceptor> coalescing; // coalescing.enabled 일 때만 존재
+    private final ObjectProvider<CacheInvalidationPublisher> publisher; // cache-invalidation.enabled 일 때만 존재
+
+    public CacheInvalidationDispatcher(ObjectProvider<CoalescingInterceptor> coalescing,
+                                       ObjectProvider<CacheInvalidationPublisher> publisher) {
+        this.coalescing = coalescing;
+        this.publisher = publisher;
+    }
+
+    public void invalidate(CacheInvalidation invalidation) {
+        publisher.ifAvailable(p -> p.publish(invalidation));
+
+        CoalescingInterceptor interceptor = coalescing.getIfAvailable();
+        if (interceptor == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            LocalCacheInvalidator.invalidateCoalesced(interceptor, invalidation);
+            return;
+        }
+        pending(interceptor).invalidations.add(invalidation);
+    }
+
+    // 현재 트랜잭션에 등록된 모음 (REQUIRES_NEW 로 중단된 바깥 트랜잭션의 것은 보이지 않음)
+    private Pending pending(CoalescingInterceptor interceptor) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Pending pending && pending.dispatcher() == this) {
+                return pending;
+            }
+        }
+        Pending pending = new Pending(interceptor);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private class Pending implements TransactionSynchronization {
+
+        private final CoalescingInterceptor interceptor;
+        // 같은 트랜잭션에서 여러 번 바뀐 대상은 한 번만 적용
+        private final Set<CacheInvalidation> invalidations = new LinkedHashSet<>();
+
+        Pending(CoalescingInterceptor interceptor) {
+            this.interceptor = interceptor;
+        }
+
+        CacheInvalidationDispatcher dispatcher() {
+            return CacheInvalidationDispatcher.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            invalidations.forEach(invalidation -> LocalCacheInvalidator.invalidateCoalesced(interceptor, invalidation));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.game.warcry.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 전용 커넥션으로 LISTEN 하면서 다른 인스턴스가 보낸 무효화 메시지를 로컬 캐시에 적용합니다.
+ * 커넥션 풀과 별개로 커넥션 하나를 계속 열어 두며(풀 크기에 영향 없음), 끊기면 백오프 후 다시 연결합니다.
+ * 끊긴 동안의 메시지는 받을 수 없으므로 다시 연결한 직후에는 로컬 캐시 전체를 한 번 비웁니다.
+ */
+public class CacheInvalidationListener implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    // LISTEN 은 식별자를 바인딩할 수 없으므로 채널 이름을 제한
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final ConnectionFactory connectionFactory;
+    private final String channel;
+    private final String nodeId;
+    private final Consumer<CacheInvalidation> applier;
+    private final Duration pollTimeout;
+    private final Duration validationInterval;
+    private final Duration reconnectBackoff;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Thread thread;
+
+    // 수신 (다른 인스턴스 / 자기 자신) / 적용 실패 / 재연결
+    private final LongAdder received = new LongAdder();
+    private final LongAdder ignored = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    /**
+     * @param nodeId             이 인스턴스의 발신 ID (자기 메시지는 건너뜀)
+     * @param pollTimeout        알림 대기 한 번의 상한 (종료 요청을 확인하는 주기)
+     * @param validationInterval 알림이 없을 때 연결을 확인하는 주기 (조용히 끊긴 TCP 연결 감지)
+     */
+    public CacheInvalidationListener(ConnectionFactory connectionFactory, String channel, String nodeId,
+                                     Consumer<CacheInvalidation> applier, Duration pollTimeout,
+                                     Duration validationInterval, Duration reconnectBackoff) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("채널 이름은 소문자/숫자/밑줄만 사용할 수 있습니다: " + channel);
+        }
+        this.connectionFactory = connectionFactory;
+        this.channel = channel;
+        this.nodeId = nodeId;
+        this.applier = applier;
+        this.pollTimeout = pollTimeout;
+        this.validationInterval = validationInterval;
+        this.reconnectBackoff = reconnectBackoff;
+    }
+
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::run);
+        log.info("캐시 무효화 수신 시작: channel={}, node={}", channel, nodeId);
+    }
+
+    private void run() {
+        boolean missed = false;
+        while (running) {
+            try (Connection connection = connectionFactory.connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                listening = true;
+                if (missed) {
+                    reconnects.increment();
+                    log.info("캐시 무효화 수신 재연결, 끊긴 동안의 변경을 놓쳤을 수 있어 로컬 캐시 전체 무효화");
+                    apply(CacheInvalidation.all());
+                    missed = false;
+                }
+                poll(connection);
+            } catch (SQLException | RuntimeException e) {
+                listening = false;
+                missed = true;
+                if (running) {
+                    log.warn("캐시 무효화 수신 연결 실패, {}ms 후 재시도: {}", reconnectBackoff.toMillis(), e.toString());
+                    sleep(reconnectBackoff);
+                }
+            }
+        }
+        listening = false;
+    }
+
+    private void poll(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long lastChecked = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    handle(notification.getParameter());
+                }
+                lastChecked = System.nanoTime();
+            } else if (System.nanoTime() - lastChecked > validationInterval.toNanos()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("LISTEN 커넥션 확인 실패");
+                }
+                lastChecked = System.nanoTime();
+            }
+        }
+    }
+
+    void handle(String payload) {
+        int separator = payload.indexOf(CacheInvalidationPublisher.NODE_SEPARATOR);
+        if (separator < 0) {
+            failed.increment();
+            log.warn("알 수 없는 캐시 무효화 메시지: {}", payload);
+            return;
+        }
+        if (payload.substring(0, separator).equals(nodeId)) {
+            ignored.increment();
+            return;
+        }
+        received.increment();
+        // 모르는 항목 하나 때문에 같은 메시지의 나머지 무효화까지 버리지 않도록 항목 단위로 건너뜀
+        CacheInvalidation.decodeAll(payload.substring(separator + 1), part -> {
+            failed.increment();
+            log.warn("알 수 없는 캐시 무효화 항목 건너뜀: {} (메시지: {})", part, payload);
+        }).forEach(this::apply);
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        try {
+            applier.accept(invalidation);
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("캐시 무효화 적용 실패: {}", invalidation.encode(), e);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    public long getIgnoredCount() {
+        return ignored.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getReconnectCount() {
+        return reconnects.sum();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        Thread listener = thread;
+        if (listener != null) {
+            listener.interrupt();
+            // 대기 중인 getNotifications 는 pollTimeout 안에 돌아옴
+            listener.join(pollTimeout.plusSeconds(1));
+        }
+        log.info("캐시 무효화 수신 종료");
+    }
+}
@@ -0,0 +1,104 @@
+package com.game.warcry.cache;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 쓰기 트랜잭션에서 바뀐 캐시 대상을 모아 커밋 직전에 pg_notify 한 번으로 보냅니다.
+ * NOTIFY 는 트랜잭션에 포함되므로 PostgreSQL 이 커밋될 때만 전달하고 롤백되면 버립니다.
+ * 따라서 다른 인스턴스는 항상 커밋된 데이터를 읽을 수 있게 된 뒤에 메시지를 받습니다.
+ * 트랜잭션 밖에서 호출하면 바로 보냅니다.
+ * 쓰기 경로는 {@link CacheInvalidationDispatcher} 를 통해서만 호출하며, 보낸 인스턴스 자신의 반영은 그쪽이 맡습니다
+ * (로비/랭크 병합 결과는 커밋 직후, 유저 캐시/2차 캐시/Bloom 필터는 쓰기 경로에서 직접).
+ *
+ * 페이로드: "{nodeId}|u:12,l" (보낸 인스턴스는 위처럼 로컬에 반영하므로 수신 시 건너뜀)
+ */
+public class CacheInvalidationPublisher {
+
+    static final char NODE_SEPARATOR = '|';
+
+    // PostgreSQL 페이로드 한도 8000바이트 (ASCII 만 사용)
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final LongAdder notifications = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate, String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+    }
+
+    void publish(CacheInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(List.of(invalidation));
+            return;
+        }
+        pending().invalidations.add(invalidation);
+    }
+
+    // 현재 트랜잭션에 등록된 모음 (REQUIRES_NEW 로 중단된 바깥 트랜잭션의 것은 보이지 않음)
+    private Pending pending() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Pending pending && pending.publisher() == this) {
+                return pending;
+            }
+        }
+        Pending pending = new Pending();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void send(Collection<CacheInvalidation> invalidations) {
+        String payload = nodeId + NODE_SEPARATOR + CacheInvalidation.encodeAll(invalidations);
+        if (payload.length() > MAX_PAYLOAD_LENGTH) {
+            payload = nodeId + NODE_SEPARATOR + CacheInvalidation.all().encode();
+        }
+        // 트랜잭션 중이면 그 커넥션에서 실행되어 커밋과 함께 전달됨
+        jdbcTemplate.query(NOTIFY_SQL, (ResultSet rs) -> null, channel, payload);
+        notifications.increment();
+        messages.add(invalidations.size());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public long getNotificationCount() {
+        return notifications.sum();
+    }
+
+    public long getMessageCount() {
+        return messages.sum();
+    }
+
+    private class Pending implements TransactionSynchronization {
+
+        // 같은 트랜잭션에서 여러 번 바뀐 대상은 한 번만 보냄
+        private final Set<CacheInvalidation> invalidations = new LinkedHashSet<>();
+
+        CacheInvalidationPublisher publisher() {
+            return CacheInvalidationPublisher.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!invalidations.isEmpty()) {
+                send(invalidations);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.game.warcry.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 호출을 한 번만 실행하고 결과를 나눠 갖습니다 (single-flight).
+ * 반환값은 여러 요청이 공유하므로 호출한 쪽에서 수정하지 않는 응답 DTO에만 사용합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    /**
+     * 실행이 끝난 뒤에도 결과를 재사용할 시간(ms). 0이면 실행 중인 호출끼리만 공유합니다.
+     * coalescing.max-ttl 보다 길면 그 값으로 줄어듭니다.
+     */
+    long ttlMillis() default 0;
+}
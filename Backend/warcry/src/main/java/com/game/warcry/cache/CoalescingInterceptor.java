@@ -0,0 +1,83 @@
+package com.game.warcry.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link Coalesced} 메서드 호출을 메서드별 {@link RequestCoalescer}로 보냅니다.
+ * 실행기와 미터는 메서드가 처음 호출될 때 만들어집니다.
+ */
+public class CoalescingInterceptor implements MethodInterceptor {
+
+    private final Supplier<MeterRegistry> registry;
+    private final Duration maxTtl;
+    private final long maximumSize;
+    private final Map<Method, RequestCoalescer> coalescers = new ConcurrentHashMap<>();
+
+    public CoalescingInterceptor(Supplier<MeterRegistry> registry, Duration maxTtl, long maximumSize) {
+        this.registry = registry;
+        this.maxTtl = maxTtl;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestCoalescer coalescer = coalescers.get(invocation.getMethod());
+        if (coalescer == null) {
+            coalescer = coalescers.computeIfAbsent(invocation.getMethod(),
+                    method -> register(AopUtils.getMostSpecificMethod(method, invocation.getThis().getClass())));
+        }
+        // 인자에 null 이 올 수 있으므로 Arrays.asList (List.equals 로 비교)
+        return coalescer.execute(Arrays.asList(invocation.getArguments().clone()), invocation::proceed);
+    }
+
+    // owner(서비스 인터페이스 또는 구현 클래스)에 선언된 메서드의 공유 결과를 버림 (데이터 변경 통지)
+    public void invalidate(Class<?> owner) {
+        coalescers.forEach((method, coalescer) -> {
+            if (owner.isAssignableFrom(method.getDeclaringClass())) {
+                coalescer.invalidateAll();
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        coalescers.values().forEach(RequestCoalescer::invalidateAll);
+    }
+
+    private RequestCoalescer register(Method method) {
+        Coalesced annotation = AnnotatedElementUtils.findMergedAnnotation(method, Coalesced.class);
+        Duration ttl = Duration.ofMillis(annotation.ttlMillis());
+        if (ttl.compareTo(maxTtl) > 0) {
+            ttl = maxTtl;
+        }
+        RequestCoalescer coalescer = new RequestCoalescer(ttl, maximumSize);
+
+        String owner = method.getDeclaringClass().getSimpleName();
+        MeterRegistry meterRegistry = registry.get();
+        FunctionCounter.builder("warcry.coalescing.calls", coalescer, RequestCoalescer::getExecutedCount)
+                .tag("owner", owner).tag("method", method.getName()).tag("result", "executed")
+                .register(meterRegistry);
+        FunctionCounter.builder("warcry.coalescing.calls", coalescer, RequestCoalescer::getJoinedCount)
+                .tag("owner", owner).tag("method", method.getName()).tag("result", "joined")
+                .register(meterRegistry);
+        FunctionCounter.builder("warcry.coalescing.calls", coalescer, RequestCoalescer::getReusedCount)
+                .tag("owner", owner).tag("method", method.getName()).tag("result", "reused")
+                .register(meterRegistry);
+        Gauge.builder("warcry.coalescing.ratio", coalescer, RequestCoalescer::coalescingRatio)
+                .tag("owner", owner).tag("method", method.getName())
+                .register(meterRegistry);
+        return coalescer;
+    }
+}
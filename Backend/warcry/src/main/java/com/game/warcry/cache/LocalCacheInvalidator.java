@@ -0,0 +1,78 @@
+package com.game.warcry.cache;
+
+import com.game.warcry.model.GameServer;
+import com.game.warcry.model.User;
+import com.game.warcry.service.ListenMatchService;
+import com.game.warcry.service.MatchService;
+import com.game.warcry.service.RankService;
+import org.hibernate.Cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 무효화 메시지를 이 인스턴스의 캐시에 적용합니다.
+ * - USER: 유저 캐시(id/username), 2차 캐시 User 엔티티와 natural-id, 쿼리 캐시
+ * - GAME_SERVER: 2차 캐시 GameServer 엔티티
+ * - LOBBY / RANK: 해당 서비스의 {@link Coalesced} 조회가 TTL 동안 공유 중인 결과
+ * - USERNAME: 다른 인스턴스에서 가입된 username 을 username Bloom 필터에 추가
+ * - ALL: 위 전부 (Bloom 필터는 지울 수 없으므로 놓친 가입을 DB에서 다시 읽어 추가)
+ * 2차 캐시나 요청 병합이 꺼져 있으면 해당 부분은 건너뜁니다.
+ */
+public class LocalCacheInvalidator implements Consumer<CacheInvalidation> {
+
+    private final UserCache userCache;
+    private final Cache secondLevelCache;
+    private final CoalescingInterceptor coalescing;
+    private final UsernameBloomFilter usernameBloomFilter;
+
+    public LocalCacheInvalidator(UserCache userCache, Cache secondLevelCache, CoalescingInterceptor coalescing,
+                                 UsernameBloomFilter usernameBloomFilter) {
+        this.userCache = userCache;
+        this.secondLevelCache = secondLevelCache;
+        this.coalescing = coalescing;
+        this.usernameBloomFilter = usernameBloomFilter;
+    }
+
+    @Override
+    public void accept(CacheInvalidation invalidation) {
+        switch (invalidation.region()) {
+            case USER -> {
+                userCache.evictById(invalidation.id());
+                secondLevelCache.evictEntityData(User.class, invalidation.id());
+                // natural-id → id 매핑과 쿼리 캐시는 다른 인스턴스의 갱신 시각을 모르므로 통째로 비움 (가입 시에만 발생)
+                secondLevelCache.evictNaturalIdData(User.class);
+                secondLevelCache.evictDefaultQueryRegion();
+            }
+            case GAME_SERVER -> secondLevelCache.evictEntityData(GameServer.class, invalidation.id());
+            case LOBBY, RANK -> {
+                if (coalescing != null) {
+                    invalidateCoalesced(coalescing, invalidation);
+                }
+            }
+            case USERNAME -> usernameBloomFilter.put(invalidation.username());
+            case ALL -> {
+                userCache.evictAll();
+                secondLevelCache.evictAllRegions();
+                usernameBloomFilter.reloadAsync();
+                if (coalescing != null) {
+                    invalidateCoalesced(coalescing, invalidation);
+                }
+            }
+        }
+    }
+
+    // 변경 대상 → 그 결과를 공유 중인 서비스의 요청 병합 (보낸 인스턴스의 커밋 직후 적용에도 사용)
+    static void invalidateCoalesced(CoalescingInterceptor coalescing, CacheInvalidation invalidation) {
+        switch (invalidation.region()) {
+            case LOBBY -> {
+                coalescing.invalidate(MatchService.class);
+                coalescing.invalidate(ListenMatchService.class);
+            }
+            case RANK -> coalescing.invalidate(RankService.class);
+            case ALL -> coalescing.invalidateAll();
+            default -> {
+                // 유저/게임 서버 변경은 병합된 조회 결과에 영향 없음
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.game.warcry.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메서드 하나의 single-flight 실행기.
+ * 인자 키마다 실행 중인 결과(future)를 하나만 두고, 같은 키로 들어온 호출은 그 결과를 기다립니다.
+ * 실행이 끝난 결과는 TTL 동안 남겨 두며, 예외로 끝난 실행은 공유 대상에서 바로 빠집니다.
+ * (Caffeine 비동기 캐시는 완료되지 않은 future를 만료시키지 않으므로 TTL은 완료 시점부터 적용됩니다)
+ */
+public class RequestCoalescer {
+
+    @FunctionalInterface
+    public interface Call {
+        Object proceed() throws Throwable;
+    }
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> flights;
+
+    // 직접 실행 / 실행 중 결과 공유 / TTL 내 재사용
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+
+    public RequestCoalescer(Duration ttl, long maximumSize) {
+        AsyncCache<Object, Object> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .buildAsync();
+        this.flights = cache.asMap();
+    }
+
+    public Object execute(Object key, Call call) throws Throwable {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = flights.putIfAbsent(key, mine);
+        if (existing != null) {
+            (existing.isDone() ? reused : joined).increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+
+        executed.increment();
+        try {
+            Object result = call.proceed();
+            mine.complete(result);
+            return result;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            flights.remove(key, mine);
+            throw t;
+        }
+    }
+
+    // 재사용 대기 중인 결과와 실행 중인 호출을 공유 대상에서 뺌 (이미 기다리는 호출은 그 결과를 그대로 받음)
+    public void invalidateAll() {
+        flights.clear();
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    public long getJoinedCount() {
+        return joined.sum();
+    }
+
+    public long getReusedCount() {
+        return reused.sum();
+    }
+
+    // 전체 호출 중 DB까지 가지 않은 비율
+    public double coalescingRatio() {
+        long shared = joined.sum() + reused.sum();
+        long total = shared + executed.sum();
+        return total == 0 ? 0.0 : (double) shared / total;
+    }
+}
@@ -0,0 +1,103 @@
+package com.game.warcry.cache;
+
+import com.game.warcry.model.User;
+import com.game.warcry.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증/조회 경로에서 반복되는 users 조회를 줄이기 위한 크기·TTL 제한 캐시.
+ * username → (id, nickname), id → (username, nickname) 두 방향을 유지하며
+ * 비밀번호 해시는 보관하지 않습니다.
+ *
+ * 회원가입이나 닉네임 변경처럼 users 행이 바뀌는 경로에서는 반드시 {@link #evict(User)}를 호출해야 합니다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, CachedUser> byUsername;
+    private final Cache<Long, CachedUser> byId;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${cache.user.maximum-size:100000}") long maximumSize,
+                     @Value("${cache.user.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.byUsername = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<CachedUser> findByUsername(String username) {
+        CachedUser cached = byUsername.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // 존재하지 않는 사용자는 캐싱하지 않음 (가입 직후 조회 시 누락 방지)
+        return userRepository.findByUsername(username).map(this::put);
+    }
+
+    public Optional<CachedUser> findById(Long userId) {
+        CachedUser cached = byId.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return userRepository.findById(userId).map(this::put);
+    }
+
+    // 이미 로딩된 엔티티로 캐시를 채움 (로그인 등)
+    public CachedUser put(User user) {
+        CachedUser cached = new CachedUser(user.getId(), user.getUsername(), user.getNickname());
+        byUsername.put(cached.username(), cached);
+        byId.put(cached.id(), cached);
+        return cached;
+    }
+
+    // users 행이 변경(가입, 닉네임 변경 등)된 경우 호출
+    public void evict(User user) {
+        if (user.getUsername() != null) {
+            byUsername.invalidate(user.getUsername());
+        }
+        if (user.getId() != null) {
+            byId.invalidate(user.getId());
+        }
+    }
+
+    // ID만 알려진 변경 (다른 인스턴스의 무효화 통지)
+    public void evictById(Long userId) {
+        CachedUser cached = byId.getIfPresent(userId);
+        if (cached != null) {
+            byUsername.invalidate(cached.username());
+        }
+        byId.invalidate(userId);
+    }
+
+    public void evictAll() {
+        byUsername.invalidateAll();
+        byId.invalidateAll();
+    }
+
+    public CacheStats usernameStats() {
+        return byUsername.stats();
+    }
+
+    public CacheStats idStats() {
+        return byId.stats();
+    }
+
+    public record CachedUser(Long id, String username, String nickname) {
+    }
+}
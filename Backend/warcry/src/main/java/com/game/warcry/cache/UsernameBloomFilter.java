@@ -0,0 +1,153 @@
+package com.game.warcry.cache;
+
+import com.game.warcry.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 사용 중인 username의 Bloom 필터. 아이디 중복 체크에서 "확실히 사용 가능"한 경우 DB 조회를 생략합니다.
+ * 기동 직후 users 테이블을 백그라운드로 읽어 채우며, 로딩이 끝나기 전에는 항상 DB로 확인합니다.
+ *
+ * 필터에 없다는 답은 이 인스턴스가 알게 된 가입만 반영합니다. 다른 인스턴스의 가입은 인스턴스 간 무효화
+ * (cache-invalidation.enabled)가 커밋 뒤에 USERNAME 메시지로 전달해 추가하지만, 전달 전의 짧은 구간은 여전히 "없음"으로 답합니다.
+ * 그래서 cache.username-filter.authoritative=true 일 때만 필터를 만들고(비트 배열 할당) 채워서 사용하며,
+ * 꺼져 있으면(기본값) 필터 없이 항상 DB로 확인합니다. 어느 경우든 최종 중복 판단은 users.username unique 제약이 담당합니다.
+ */
+@Component
+public class UsernameBloomFilter {
+
+    private final Logger log = LoggerFactory.getLogger(UsernameBloomFilter.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BloomFilter filter; // authoritative=false 이면 null
+    private final boolean authoritative;
+    private volatile boolean ready;
+
+    // 오탐률 측정: 필터가 "있을 수 있음"이라고 했지만 DB에 없던 경우
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder probableHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public UsernameBloomFilter(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${cache.username-filter.expected-insertions:10000000}") long expectedInsertions,
+                               @Value("${cache.username-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${cache.username-filter.authoritative:false}") boolean authoritative) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // 쓰지 않을 필터에 수십 MB 비트 배열을 잡지 않음
+        this.filter = authoritative ? new BloomFilter(expectedInsertions, falsePositiveRate) : null;
+        this.authoritative = authoritative;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        if (!authoritative) {
+            log.info("username Bloom 필터 사용 안 함 (cache.username-filter.authoritative=false), 항상 DB로 확인");
+            return;
+        }
+        startLoader();
+    }
+
+    // 무효화 메시지를 놓쳤을 수 있을 때 (수신 재연결) users 테이블을 다시 읽어 빠진 username 추가
+    public void reloadAsync() {
+        if (authoritative && ready) {
+            startLoader();
+        }
+    }
+
+    private void startLoader() {
+        Thread loader = new Thread(this::load, "username-bloom-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void load() {
+        long start = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                    usernames.forEach(filter::put);
+                }
+            });
+            ready = true;
+            log.info("username Bloom 필터 로딩 완료: {}건, {}ms, 비트 {} / 해시 {}개",
+                    filter.getInsertions(), System.currentTimeMillis() - start,
+                    filter.getBitSize(), filter.getHashFunctions());
+        } catch (Exception e) {
+            // 로딩 실패 시 필터를 사용하지 않고 항상 DB로 확인
+            log.error("username Bloom 필터 로딩 실패", e);
+        }
+    }
+
+    // false이면 확실히 사용되지 않은 username (로딩 전에는 항상 true)
+    public boolean mightContain(String username) {
+        if (!ready) {
+            return true;
+        }
+        if (filter.mightContain(username)) {
+            return true;
+        }
+        definiteMisses.increment();
+        return false;
+    }
+
+    // mightContain == true 이후 DB 확인 결과 기록
+    public void recordConfirmation(boolean exists) {
+        if (!ready) {
+            return;
+        }
+        probableHits.increment();
+        if (!exists) {
+            falsePositives.increment();
+        }
+    }
+
+    public void put(String username) {
+        if (filter != null) {
+            filter.put(username);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isAuthoritative() {
+        return authoritative;
+    }
+
+    // 실제 관측 오탐률: 존재하지 않는 username 중 필터가 "있을 수 있음"이라고 답한 비율
+    public double observedFalsePositiveRate() {
+        long fp = falsePositives.sum();
+        long negatives = fp + definiteMisses.sum();
+        return negatives == 0 ? 0.0 : (double) fp / negatives;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return filter == null ? 0.0 : filter.expectedFalsePositiveRate();
+    }
+
+    public long getDefiniteMisses() {
+        return definiteMisses.sum();
+    }
+
+    public long getProbableHits() {
+        return probableHits.sum();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+}
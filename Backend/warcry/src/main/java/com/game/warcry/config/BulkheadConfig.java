@@ -0,0 +1,77 @@
+package com.game.warcry.config;
+
+import com.game.warcry.datasource.StatementTimeoutDataSource;
+import com.game.warcry.limit.Bulkhead;
+import com.game.warcry.limit.BulkheadInterceptor;
+import com.game.warcry.limit.Bulkheaded;
+import com.game.warcry.limit.Bulkheads;
+import com.game.warcry.limit.TrafficClass;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 트래픽 등급별 벌크헤드 (랭킹 조회 / 로비 / 결과 저장).
+ * 하나의 커넥션 풀을 등급별 동시 실행 수로 나눠, 리더보드 조회가 몰려도 결과 저장에 쓸 커넥션이 남도록 합니다.
+ * (rank-read + lobby 합계를 풀 크기보다 작게 두면 그 차이만큼이 결과 저장 전용 여유분이 됩니다)
+ * 등급 안에서 얻은 커넥션의 SQL에는 등급별 statement-timeout 이 적용됩니다.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    public static Bulkheads bulkheads(
+            @Value("${bulkhead.rank-read.max-concurrent:6}") int rankConcurrent,
+            @Value("${bulkhead.rank-read.max-wait:50ms}") Duration rankWait,
+            @Value("${bulkhead.rank-read.statement-timeout:2s}") Duration rankTimeout,
+            @Value("${bulkhead.lobby.max-concurrent:10}") int lobbyConcurrent,
+            @Value("${bulkhead.lobby.max-wait:200ms}") Duration lobbyWait,
+            @Value("${bulkhead.lobby.statement-timeout:3s}") Duration lobbyTimeout,
+            @Value("${bulkhead.result-write.max-concurrent:20}") int resultConcurrent,
+            @Value("${bulkhead.result-write.max-wait:2s}") Duration resultWait,
+            @Value("${bulkhead.result-write.statement-timeout:10s}") Duration resultTimeout,
+            @Value("${bulkhead.retry-after:1s}") Duration retryAfter) {
+        return new Bulkheads(List.of(
+                new Bulkhead(TrafficClass.RANK_READ, rankConcurrent, rankWait, rankTimeout),
+                new Bulkhead(TrafficClass.LOBBY, lobbyConcurrent, lobbyWait, lobbyTimeout),
+                new Bulkhead(TrafficClass.RESULT_WRITE, resultConcurrent, resultWait, resultTimeout)),
+                retryAfter);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor bulkheadAdvisor(Bulkheads bulkheads) {
+        // 트레이스/요청 병합 안쪽, 트랜잭션 어드바이저 바깥 (자리 대기 중에는 커넥션을 잡지 않음)
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(null, Bulkheaded.class, true),
+                new BulkheadInterceptor(bulkheads));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return advisor;
+    }
+
+    @Bean
+    public static BeanPostProcessor statementTimeoutDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // JPA가 쓰는 기본 DataSource만 감쌈 (레플리카 모드에서는 라우팅 프록시)
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementTimeoutDataSource)) {
+                    return new StatementTimeoutDataSource(dataSource, Bulkheads::currentStatementTimeoutSeconds);
+                }
+                return bean;
+            }
+        };
+    }
+}
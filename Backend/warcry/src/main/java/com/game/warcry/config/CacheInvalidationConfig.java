@@ -0,0 +1,92 @@
+package com.game.warcry.config;
+
+import com.game.warcry.cache.CacheInvalidationListener;
+import com.game.warcry.cache.CacheInvalidationPublisher;
+import com.game.warcry.cache.CoalescingInterceptor;
+import com.game.warcry.cache.LocalCacheInvalidator;
+import com.game.warcry.cache.UserCache;
+import com.game.warcry.cache.UsernameBloomFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * 인스턴스 간 캐시 무효화 (PostgreSQL LISTEN/NOTIFY, cache-invalidation.enabled=true 일 때만 활성화).
+ * 매치/랭크/가입 쓰기 경로가 바꾼 대상을 커밋과 함께 NOTIFY 하고, 다른 인스턴스가 LISTEN 으로 받아 자기 캐시에서 지웁니다
+ * (가입된 username 은 username Bloom 필터에 추가).
+ * 별도 브로커 없이 이미 쓰고 있는 프라이머리 DB만 사용하며, 수신 지연/유실 시에도 각 캐시의 TTL이 상한으로 남습니다.
+ *
+ * 레플리카 라우팅을 쓰는 경우 메시지를 받은 인스턴스의 다음 조회가 아직 복제되지 않은 레플리카로 갈 수 있으므로,
+ * 무효화 대상 중 DB에서 다시 채우는 캐시(유저/2차 캐시)는 레플리카 지연만큼 늦을 수 있습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cache-invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationConfig {
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(
+            JdbcTemplate jdbcTemplate,
+            @Value("${cache-invalidation.channel:warcry_cache_invalidation}") String channel) {
+        return new CacheInvalidationPublisher(jdbcTemplate, channel);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public CacheInvalidationListener cacheInvalidationListener(
+            CacheInvalidationPublisher publisher,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails,
+            DataSourceProperties dataSourceProperties,
+            UserCache userCache,
+            UsernameBloomFilter usernameBloomFilter,
+            EntityManagerFactory entityManagerFactory,
+            ObjectProvider<CoalescingInterceptor> coalescingInterceptor,
+            @Value("${cache-invalidation.channel:warcry_cache_invalidation}") String channel,
+            @Value("${cache-invalidation.poll-timeout:500ms}") Duration pollTimeout,
+            @Value("${cache-invalidation.validation-interval:30s}") Duration validationInterval,
+            @Value("${cache-invalidation.reconnect-backoff:5s}") Duration reconnectBackoff) {
+        LocalCacheInvalidator invalidator = new LocalCacheInvalidator(userCache,
+                entityManagerFactory.unwrap(SessionFactory.class).getCache(),
+                coalescingInterceptor.getIfAvailable(), usernameBloomFilter);
+
+        // 풀 밖의 전용 커넥션 (프라이머리 접속 정보, 없으면 spring.datasource.*)
+        JdbcConnectionDetails connection = connectionDetails.getIfAvailable(() -> new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return dataSourceProperties.determineUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return dataSourceProperties.determinePassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return dataSourceProperties.determineUrl();
+            }
+        });
+        String url = connection.getJdbcUrl();
+        Properties connectionProperties = new Properties();
+        if (connection.getUsername() != null) {
+            connectionProperties.setProperty("user", connection.getUsername());
+        }
+        if (connection.getPassword() != null) {
+            connectionProperties.setProperty("password", connection.getPassword());
+        }
+        connectionProperties.setProperty("ApplicationName", "warcry-cache-invalidation");
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+
+        return new CacheInvalidationListener(() -> DriverManager.getConnection(url, connectionProperties),
+                channel, publisher.getNodeId(), invalidator, pollTimeout, validationInterval, reconnectBackoff);
+    }
+}
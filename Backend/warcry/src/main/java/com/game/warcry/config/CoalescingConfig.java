@@ -0,0 +1,46 @@
+package com.game.warcry.config;
+
+import com.game.warcry.cache.Coalesced;
+import com.game.warcry.cache.CoalescingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * 동일 조회 요청 병합 (리더보드, 티어 분포, 로비 목록 등 {@link Coalesced} 메서드).
+ * 트레이스 구간 바로 안쪽, 벌크헤드/트랜잭션 바깥에서 동작하므로 결과를 기다리는 호출은 벌크헤드 자리나 커넥션을 쓰지 않습니다.
+ * 병합 비율은 warcry.coalescing.calls / warcry.coalescing.ratio 로 노출됩니다.
+ * 공유 중인 결과는 이 인스턴스의 쓰기가 커밋되면(CacheInvalidationDispatcher), 다른 인스턴스의 변경은 통지(CacheInvalidationConfig)를 받으면 TTL 전에 버립니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static CoalescingInterceptor coalescingInterceptor(ObjectProvider<MeterRegistry> registry,
+                                                              @Value("${coalescing.max-ttl:5s}") Duration maxTtl,
+                                                              @Value("${coalescing.maximum-size:10000}") long maximumSize) {
+        return new CoalescingInterceptor(registry::getObject, maxTtl, maximumSize);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescingAdvisor(CoalescingInterceptor coalescingInterceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(null, Coalesced.class, true), coalescingInterceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.warcry.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.warcry.limit.AdaptiveConcurrencyLimiter;
+import com.game.warcry.limit.ConcurrencyLimitFilter;
+import com.game.warcry.limit.RequestPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * API 동시 처리 한도와 부하 차단 (limiter.enabled=true 일 때만 활성화).
+ * 초기 한도는 커넥션 풀 크기의 몇 배 정도로 두고, 이후에는 관측 지연에 따라 min~max 사이에서 조정됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "limiter", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${limiter.initial-limit:40}") int initialLimit,
+            @Value("${limiter.min-limit:8}") int minLimit,
+            @Value("${limiter.max-limit:400}") int maxLimit,
+            @Value("${limiter.window-size:100}") int windowSize,
+            @Value("${limiter.share.normal:0.9}") double normalShare,
+            @Value("${limiter.share.polling:0.7}") double pollingShare) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, windowSize, Map.of(
+                RequestPriority.CRITICAL, 1.0,
+                RequestPriority.NORMAL, normalShare,
+                RequestPriority.POLLING, pollingShare));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper,
+            @Value("${limiter.retry-after:1s}") Duration retryAfter) {
+        // 트레이스 필터 바로 뒤, 보안 필터(JWT 검증)보다 앞에서 차단해 거절 비용을 최소화
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, objectMapper, retryAfter));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
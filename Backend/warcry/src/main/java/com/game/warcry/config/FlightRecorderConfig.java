@@ -0,0 +1,67 @@
+package com.game.warcry.config;
+
+import com.game.warcry.diagnostics.FlightRecorderEndpoint;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상시 JFR 기록 (diagnostics.jfr.enabled=true).
+ * JDK default 설정 + jfr/warcry.jfc(매치/레이팅 이벤트)로 최근 max-age 만큼을 디스크에 순환 보관하며,
+ * 장애 시 /actuator/jfr 로 최근 N분을 덤프합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "diagnostics.jfr", name = "enabled", havingValue = "true")
+public class FlightRecorderConfig {
+
+    static final String RECORDING_NAME = "warcry";
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public Recording continuousRecording(@Value("${diagnostics.jfr.max-age:30m}") Duration maxAge,
+                                         @Value("${diagnostics.jfr.max-size:256MB}") DataSize maxSize)
+            throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(jdk.jfr.Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource("jfr/warcry.jfc").getInputStream(), StandardCharsets.UTF_8)) {
+            settings.putAll(jdk.jfr.Configuration.create(reader).getSettings());
+        }
+
+        Recording recording = new Recording(settings);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.start();
+        log.info("JFR 상시 기록 시작: maxAge={}, maxSize={}", maxAge, maxSize);
+        return recording;
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(
+            @Value("${diagnostics.jfr.dump-directory:${java.io.tmpdir}/warcry-jfr}") Path dumpDirectory,
+            @Value("${diagnostics.jfr.default-dump-minutes:5}") int defaultMinutes,
+            @Value("${diagnostics.jfr.max-age:30m}") Duration maxAge,
+            @Value("${diagnostics.jfr.max-retained-dumps:10}") int maxRetainedDumps,
+            @Value("${diagnostics.jfr.min-dump-interval:1m}") Duration minDumpInterval) {
+        return new FlightRecorderEndpoint(RECORDING_NAME, dumpDirectory, defaultMinutes, (int) maxAge.toMinutes(),
+                maxRetainedDumps, minDumpInterval);
+    }
+}
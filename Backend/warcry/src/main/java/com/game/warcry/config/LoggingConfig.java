@@ -0,0 +1,47 @@
+package com.game.warcry.config;
+
+import com.game.warcry.diagnostics.StatementCounter;
+import com.game.warcry.logging.SampledSqlInspector;
+import com.game.warcry.logging.SqlTraceEndpoint;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * SQL 추적 설정. 전체 SQL/바인딩 로그 대신 표본 SQL과 느린 쿼리(hibernate.log_slow_query)만 남깁니다.
+ * 로그 출력 자체는 logback-spring.xml 의 비동기 appender가 담당합니다.
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public SampledSqlInspector sampledSqlInspector(@Value("${logging.sql.sample-rate:0}") int sampleRate) {
+        return new SampledSqlInspector(sampleRate);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlTraceHibernateCustomizer(
+            SampledSqlInspector inspector,
+            @Value("${logging.sql.slow-query-threshold:50ms}") Duration slowQueryThreshold) {
+        return properties -> {
+            // 스레드별 SQL 수 집계(JFR 이벤트 queryCount) + 표본 SQL 로그
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                StatementCounter.increment();
+                return inspector.inspect(sql);
+            });
+            properties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryThreshold.toMillis());
+        };
+    }
+
+    @Bean
+    public SqlTraceEndpoint sqlTraceEndpoint(SampledSqlInspector inspector, LoggingSystem loggingSystem,
+                                             @Value("${logging.sql.slow-query-threshold:50ms}") Duration slowQueryThreshold) {
+        return new SqlTraceEndpoint(inspector, loggingSystem, slowQueryThreshold.toMillis());
+    }
+}
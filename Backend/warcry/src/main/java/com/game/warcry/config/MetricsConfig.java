@@ -0,0 +1,56 @@
+package com.game.warcry.config;
+
+import com.game.warcry.metrics.MethodTimers;
+import com.game.warcry.metrics.TimedMethodInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 컨트롤러 메서드 / Spring Data 리포지토리 메서드별 지연 시간 히스토그램.
+ * Prometheus 스크레이프는 /actuator/prometheus (prod는 별도 관리 포트) 로 노출됩니다.
+ *
+ * 어드바이저와 후처리기는 다른 빈보다 먼저 만들어지므로 MeterRegistry는 첫 기록 시점에 조회합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor controllerTimingAdvisor(ObjectProvider<MeterRegistry> registry) {
+        MethodTimers timers = new MethodTimers(registry::getObject, "warcry.controller", "controller", null,
+                Duration.ofMillis(1), Duration.ofSeconds(30));
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(RestController.class, true),
+                new TimedMethodInterceptor(timers));
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // 리포지토리 프록시가 만들어지기 전(afterPropertiesSet)에 인터셉터 등록
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new TimedMethodInterceptor(new MethodTimers(registry::getObject,
+                                            "warcry.repository", "repository",
+                                            repositoryInformation.getRepositoryInterface().getSimpleName(),
+                                            Duration.ofNanos(100_000), Duration.ofSeconds(10))))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,10 +1,13 @@
 package com.game.warcry.config;
 
+import com.game.warcry.security.BoundedPasswordEncoder;
+import com.game.warcry.security.PasswordHashingExecutor;
+import com.game.warcry.security.jwt.AuthUserJwtConverter;
 import com.game.warcry.security.jwt.JWTUtil;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,15 +18,10 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
 import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
 
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-
 @Configuration
 @RequiredArgsConstructor
 @SecurityScheme(
@@ -35,9 +33,7 @@ import java.nio.charset.StandardCharsets;
 public class ProjectSecurityConfig {
 
     private final JWTUtil jwtUtil;
-
-    @Value("${jwt.secret:change-this-secret-string-to-32bytes-min}")
-    private String jwtSecret;
+    private final AuthUserJwtConverter authUserJwtConverter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
@@ -56,17 +52,24 @@ public class ProjectSecurityConfig {
                                 "/v3/api-docs",
                                 "/v3/api-docs/swagger-config"
                         ).permitAll()
+                        // 헬스 체크 / 메트릭 스크레이프만 공개 (로드밸런서·Prometheus 는 토큰 없이 호출)
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        // 로그 레벨·SQL 추적 스위치 등 상태를 바꾸는 나머지 엔드포인트는 관리자(security.admin-user-ids)만
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
                         // Auth 관련 중 인증 없이 허용할 엔드포인트만
                         .requestMatchers(
                                 "/api/auth/signup",
                                 "/api/auth/login",
+                                "/api/auth/refresh",
                                 "/api/auth/check-username"
                         ).permitAll()
                         // 나머지 요청(예: /api/auth/me, /api/match/** 등)은 인증 필요
                         .anyRequest().authenticated()
                 )
-                // JWT 리소스 서버 구성
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.decoder(jwtDecoder)))
+                // JWT 리소스 서버 구성 (principal은 userId 클레임을 담은 AuthUser)
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt
+                        .decoder(jwtDecoder)
+                        .jwtAuthenticationConverter(authUserJwtConverter)))
                 // 예외 처리
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(new BearerTokenAuthenticationEntryPoint())
@@ -78,8 +81,9 @@ public class ProjectSecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        // BCrypt 해싱은 요청 스레드가 아닌 전용 풀에서 수행 (포화 시 429)
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 
     @Bean
@@ -91,9 +95,7 @@ public class ProjectSecurityConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        SecretKey key = new SecretKeySpec(
-                jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"
-        );
-        return NimbusJwtDecoder.withSecretKey(key).build();
+        // 토큰 다이제스트 기반 검증 캐시가 적용된 디코더 (JWTUtil과 공유)
+        return jwtUtil.getJwtDecoder();
     }
 }
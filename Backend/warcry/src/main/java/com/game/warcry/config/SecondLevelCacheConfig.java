@@ -0,0 +1,90 @@
+package com.game.warcry.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 (JCache 규격, 인스턴스 로컬 Caffeine).
+ *
+ * 캐시 대상은 거의 바뀌지 않는 User(엔티티 + username natural-id)와 GameServer 입니다.
+ * 리전은 여기서 크기/TTL을 정해 미리 만들고, 통계는 JCache MXBean → 메트릭(cache.gets/puts/evictions{cache=리전})으로 노출합니다.
+ * User 엔티티 상태에는 비밀번호 해시도 포함되지만 프로세스 메모리에만 보관됩니다.
+ *
+ * 다중 인스턴스: 각 인스턴스가 자기 캐시만 무효화하므로, 다른 인스턴스의 변경은 변경 통지(CacheInvalidationConfig)를 받기 전까지,
+ * 통지가 꺼져 있거나 끊긴 동안에는 리전 TTL 동안 보이지 않을 수 있습니다.
+ * - users: 가입(INSERT)만 있어 기존 항목이 낡지 않음. username 중복 확인(existsByUsername)은 쿼리 캐시를 거치지 않음
+ * - game_servers: 상태가 매치마다 바뀌므로 TTL을 짧게 둠. 서버 배정은 캐시를 거치지 않는 쿼리(findFirstAvailableServer)로 수행
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jpa.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    public static final String USER_REGION = "user";
+    public static final String USER_NATURAL_ID_REGION = "user-natural-id";
+    public static final String GAME_SERVER_REGION = "game-server";
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // 같은 JVM의 여러 컨텍스트(테스트)가 CacheManager를 공유하지 않도록 컨텍스트마다 별도 URI
+    private static final AtomicInteger MANAGER_SEQUENCE = new AtomicInteger();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${jpa.second-level-cache.user.maximum-size:100000}") long userSize,
+            @Value("${jpa.second-level-cache.user.ttl:30m}") Duration userTtl,
+            @Value("${jpa.second-level-cache.game-server.maximum-size:1000}") long gameServerSize,
+            @Value("${jpa.second-level-cache.game-server.ttl:30s}") Duration gameServerTtl,
+            @Value("${jpa.second-level-cache.query.maximum-size:10000}") long querySize,
+            @Value("${jpa.second-level-cache.query.ttl:5m}") Duration queryTtl) {
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("warcry-hibernate-" + MANAGER_SEQUENCE.incrementAndGet()),
+                        getClass().getClassLoader());
+        createRegion(manager, USER_REGION, userSize, userTtl);
+        createRegion(manager, USER_NATURAL_ID_REGION, userSize, userTtl);
+        createRegion(manager, GAME_SERVER_REGION, gameServerSize, gameServerTtl);
+        createRegion(manager, QUERY_RESULTS_REGION, querySize, queryTtl);
+        // 쿼리 결과 유효성 판단용 테이블별 갱신 시각: 크기 제한/만료 없이 유지해야 함 (테이블 수만큼만 생김)
+        createRegion(manager, UPDATE_TIMESTAMPS_REGION, 0, Duration.ZERO);
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernateCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 위에서 만들지 않은 리전을 쓰면 경고 후 기본 설정(크기 제한 없음)으로 생성
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+
+    // maximumSize, ttl 이 0이면 제한 없음
+    private static void createRegion(CacheManager manager, String region, long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maximumSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (!ttl.isZero()) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        manager.createCache(region, configuration);
+    }
+}
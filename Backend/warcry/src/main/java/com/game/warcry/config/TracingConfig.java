@@ -0,0 +1,83 @@
+package com.game.warcry.config;
+
+import com.game.warcry.tracing.OtlpJsonExporter;
+import com.game.warcry.tracing.Span;
+import com.game.warcry.tracing.TracingEndpoint;
+import com.game.warcry.tracing.TracingFilter;
+import com.game.warcry.tracing.TracingInterceptor;
+import com.game.warcry.tracing.TracingSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 요청별 구간 트리 추적 (요청 → 서비스 → 리포지토리).
+ * 트레이스는 OTLP-JSON 으로 로컬 순환 파일(logging.tracing.file)에 기록되며 collector 없이 동작합니다.
+ * tracing.enabled=false 이면 필터는 바로 통과하고, 인터셉터는 ThreadLocal 조회 한 번만 수행합니다.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public TracingSettings tracingSettings(@Value("${tracing.enabled:false}") boolean enabled,
+                                           @Value("${tracing.export-threshold:0ms}") Duration exportThreshold) {
+        return new TracingSettings(enabled, exportThreshold);
+    }
+
+    @Bean
+    public OtlpJsonExporter otlpJsonExporter(@Value("${spring.application.name:warcry}") String serviceName) {
+        return new OtlpJsonExporter(serviceName);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(TracingSettings settings, OtlpJsonExporter exporter) {
+        // 보안 필터(JWT 검증) 시간까지 포함되도록 가장 앞에 둠
+        FilterRegistrationBean<TracingFilter> registration =
+                new FilterRegistrationBean<>(new TracingFilter(settings, exporter));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public TracingEndpoint tracingEndpoint(TracingSettings settings, OtlpJsonExporter exporter) {
+        return new TracingEndpoint(settings, exporter);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTracingAdvisor() {
+        // 트랜잭션 어드바이저보다 바깥에서 감싸 커밋 시간까지 서비스 구간에 포함
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(Service.class, true),
+                new TracingInterceptor(Span.Kind.INTERNAL, null));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryTracingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new TracingInterceptor(
+                                    Span.Kind.CLIENT, repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.game.warcry.config;
+
+import com.game.warcry.diagnostics.PinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true, Java 21 이상).
+ * 요청 처리와 @Scheduled/비동기 작업은 Spring Boot가 가상 스레드로 전환하며,
+ * 여기서는 pinning 감시와 그에 맞는 커넥션 풀 설정을 담당합니다.
+ *
+ * 가상 스레드에서는 Tomcat 스레드 수가 동시 요청을 제한하지 않으므로 DB 동시성의 상한은 Hikari 풀이 됩니다.
+ * 풀 크기는 DB가 감당할 수 있는 값으로 그대로 두고, 커넥션 대기 시간만 짧게 줄여
+ * 과부하 시 요청이 수십 초씩 쌓이지 않고 빠르게 실패하도록 합니다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "threads.pinning-monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public PinningMonitor pinningMonitor(@Value("${threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        return new PinningMonitor(threshold);
+    }
+
+    @Bean
+    public static BeanPostProcessor virtualThreadHikariSizing(
+            @Value("${threads.virtual.hikari.connection-timeout:3s}") Duration connectionTimeout) {
+        return new BeanPostProcessor() {
+            // 설정 바인딩(@ConfigurationProperties) 직후, 다른 후처리기가 DataSource를 감싸기 전에 적용
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    if (dataSource.getConnectionTimeout() > connectionTimeout.toMillis()) {
+                        dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+                    }
+                    log.info("가상 스레드 모드 커넥션 풀: {} maximumPoolSize={}, connectionTimeout={}ms",
+                            beanName, dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
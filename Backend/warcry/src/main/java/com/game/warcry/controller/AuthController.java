@@ -3,9 +3,13 @@ package com.game.warcry.controller;
 import com.game.warcry.dto.ErrorResponse;
 import com.game.warcry.dto.LoginRequest;
 import com.game.warcry.dto.LoginResponse;
+import com.game.warcry.dto.RefreshRequest;
 import com.game.warcry.dto.SignupRequest;
 import com.game.warcry.dto.SignupResponse;
 import com.game.warcry.dto.UsernameCheckResponse;
+import com.game.warcry.security.AuthUser;
+import com.game.warcry.security.InvalidRefreshTokenException;
+import com.game.warcry.security.PasswordHashingRejectedException;
 import com.game.warcry.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,12 +19,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.game.warcry.dto.UserInfoResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -40,6 +45,8 @@ public class AuthController {
                     @ApiResponse(responseCode = "409", description = "이미 존재하는 아이디입니다.",
                             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "400", description = "요청 데이터 유효성 검사 실패",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "429", description = "요청 과다 (Retry-After 이후 재시도)",
                             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
@@ -47,6 +54,8 @@ public class AuthController {
         try {
             SignupResponse response = authService.signup(req);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            return tooManyRequests(e);
         } catch (IllegalArgumentException e) {
             // 중복 아이디
             if ("이미 존재하는 아이디입니다.".equals(e.getMessage())) {
@@ -79,6 +88,8 @@ public class AuthController {
                     @ApiResponse(responseCode = "200", description = "로그인 성공",
                             content = @Content(schema = @Schema(implementation = LoginResponse.class))),
                     @ApiResponse(responseCode = "401", description = "인증 실패 (잘못된 사용자명 또는 비밀번호)",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "429", description = "로그인 요청 과다 (Retry-After 이후 재시도)",
                             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
@@ -86,6 +97,8 @@ public class AuthController {
         try {
             LoginResponse loginResponse = authService.login(req);
             return ResponseEntity.ok(loginResponse);
+        } catch (PasswordHashingRejectedException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             ErrorResponse error = ErrorResponse.builder()
                     .success(false)
@@ -98,6 +111,33 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "토큰 갱신 API",
+            description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 즉시 폐기되며, 재사용 시 같은 로그인에서 발급된 토큰이 모두 폐기됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "갱신 성공",
+                            content = @Content(schema = @Schema(implementation = LoginResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "유효하지 않거나 만료·재사용된 리프레시 토큰",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshRequest req) {
+        try {
+            LoginResponse loginResponse = authService.refresh(req);
+            return ResponseEntity.ok(loginResponse);
+        } catch (InvalidRefreshTokenException e) {
+            ErrorResponse error = ErrorResponse.builder()
+                    .success(false)
+                    .errorCode("INVALID_REFRESH_TOKEN")
+                    .message(e.getMessage())
+                    .build();
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .body(error);
+        }
+    }
+
     @GetMapping("/check-username")
     @Operation(
             summary = "아이디 중복 체크 API",
@@ -131,9 +171,21 @@ public class AuthController {
                             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
-    public ResponseEntity<?> getCurrentUser(Authentication authentication) {
-        String username = authentication.getName();
-        UserInfoResponse info = authService.getUserInfo(username);
+    public ResponseEntity<?> getCurrentUser(@AuthenticationPrincipal AuthUser authUser) {
+        UserInfoResponse info = authService.getUserInfo(authUser);
         return ResponseEntity.ok(info);
     }
-}
+
+    // 비밀번호 해싱 풀 포화 시 부하 차단 응답
+    private ResponseEntity<ErrorResponse> tooManyRequests(PasswordHashingRejectedException e) {
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .errorCode("TOO_MANY_REQUESTS")
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+}
\ No newline at end of file
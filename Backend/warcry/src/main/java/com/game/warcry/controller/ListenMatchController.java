@@ -1,6 +1,7 @@
 package com.game.warcry.controller;
 
 import com.game.warcry.dto.ErrorResponse;
+import com.game.warcry.security.AuthUser;
 import com.game.warcry.dto.listen.ListenMatchCreateRequest;
 import com.game.warcry.dto.listen.ListenMatchCreateResponse;
 import com.game.warcry.dto.listen.ListenMatchListResponse;
@@ -12,14 +13,16 @@ import com.game.warcry.dto.listen.ListenMatchLeaveResponse;
 import com.game.warcry.dto.listen.ListenMatchHostLeaveResponse;
 import com.game.warcry.dto.listen.ListenMatchResultRequest;
 import com.game.warcry.dto.listen.ListenMatchResultResponse;
+import com.game.warcry.limit.BulkheadFullException;
 import org.springframework.security.access.AccessDeniedException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -33,13 +36,10 @@ public class ListenMatchController {
     @PostMapping
     @Operation(summary = "매치 생성", description = "HOST 유저가 자신의 클라이언트에서 Mirror Listen Server를 실행한 후, 해당 IP/PORT 정보를 포함하여 매치를 생성합니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<?> createMatch(@RequestBody ListenMatchCreateRequest request, Authentication authentication) {
+    public ResponseEntity<?> createMatch(@RequestBody ListenMatchCreateRequest request, @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름(username) 가져오기
-            String username = authentication.getName();
-
-            // 서비스 메서드 호출
-            ListenMatchCreateResponse response = listenMatchService.createMatch(username, request);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            ListenMatchCreateResponse response = listenMatchService.createMatch(authUser.userId(), request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
@@ -55,6 +55,8 @@ public class ListenMatchController {
                     .message("해당 IP/PORT 조합이 이미 사용 중입니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -66,7 +68,7 @@ public class ListenMatchController {
     }
 
     @GetMapping
-    @Operation(summary = "매치 목록 조회", description = "현재 대기 중인 매치들의 목록을 조회합니다.",
+    @Operation(summary = "매치 목록 조회", description = "Listen 서버 매치들의 목록을 오래된 순으로 최대 limit개(기본 10, 최대 100) 조회합니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<?> getMatches(
             @RequestParam(required = false) Boolean isPrivate,
@@ -76,6 +78,8 @@ public class ListenMatchController {
         try {
             ListenMatchListResponse response = listenMatchService.getMatches(isPrivate, status, limit);
             return ResponseEntity.ok(response);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -100,6 +104,8 @@ public class ListenMatchController {
                     .message("해당 매치를 찾을 수 없습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -115,12 +121,10 @@ public class ListenMatchController {
             security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<?> joinMatch(@PathVariable Long matchId,
                                        @RequestBody ListenMatchJoinRequest request,
-                                       Authentication authentication) {
+                                       @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름 가져오기
-            String username = authentication.getName();
-
-            ListenMatchJoinResponse response = listenMatchService.joinMatch(matchId, username, request);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            ListenMatchJoinResponse response = listenMatchService.joinMatch(matchId, authUser.userId(), request);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("매치를 찾을 수 없습니다")) {
@@ -152,6 +156,8 @@ public class ListenMatchController {
                     .message("해당 매치는 이미 인원이 가득 찼습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -165,12 +171,10 @@ public class ListenMatchController {
     @PostMapping("/{matchId}/leave")
     @Operation(summary = "매치 나가기 (GUEST)", description = "GUEST 역할의 사용자가 매치에서 나갑니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<?> leaveMatch(@PathVariable Long matchId, Authentication authentication) {
+    public ResponseEntity<?> leaveMatch(@PathVariable Long matchId, @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름 가져오기
-            String username = authentication.getName();
-
-            ListenMatchLeaveResponse response = listenMatchService.leaveMatch(matchId, username);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            ListenMatchLeaveResponse response = listenMatchService.leaveMatch(matchId, authUser.userId());
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("매치를 찾을 수 없습니다")) {
@@ -209,6 +213,8 @@ public class ListenMatchController {
                     .message("이미 시작된 매치는 나갈 수 없습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -222,12 +228,10 @@ public class ListenMatchController {
     @PostMapping("/{matchId}/host-leave")
     @Operation(summary = "매치 나가기 (HOST)", description = "HOST 역할의 사용자가 매치에서 나가되, 다른 GUEST가 있을 경우 자동으로 HOST 권한을 이전합니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<?> hostLeaveMatch(@PathVariable Long matchId, Authentication authentication) {
+    public ResponseEntity<?> hostLeaveMatch(@PathVariable Long matchId, @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름 가져오기
-            String username = authentication.getName();
-
-            ListenMatchHostLeaveResponse response = listenMatchService.hostLeaveMatch(matchId, username);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            ListenMatchHostLeaveResponse response = listenMatchService.hostLeaveMatch(matchId, authUser.userId());
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("매치를 찾을 수 없습니다")) {
@@ -266,6 +270,8 @@ public class ListenMatchController {
                     .message("이미 시작된 매치는 나갈 수 없습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -281,12 +287,10 @@ public class ListenMatchController {
             security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<?> saveMatchResult(@PathVariable Long matchId,
                                              @RequestBody ListenMatchResultRequest request,
-                                             Authentication authentication) {
+                                             @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름 가져오기
-            String username = authentication.getName();
-
-            ListenMatchResultResponse response = listenMatchService.saveMatchResult(matchId, username, request);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            ListenMatchResultResponse response = listenMatchService.saveMatchResult(matchId, authUser.userId(), request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (AccessDeniedException e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
@@ -309,6 +313,8 @@ public class ListenMatchController {
                     .message("해당 매치의 결과가 이미 저장되어 있습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -318,4 +324,17 @@ public class ListenMatchController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    // 트래픽 등급 벌크헤드 포화 시 부하 차단 응답
+    private ResponseEntity<ErrorResponse> serviceUnavailable(BulkheadFullException e) {
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .errorCode("SERVICE_UNAVAILABLE")
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+}
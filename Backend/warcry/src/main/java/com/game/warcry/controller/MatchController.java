@@ -1,16 +1,19 @@
 package com.game.warcry.controller;
 
 import com.game.warcry.dto.ErrorResponse;
+import com.game.warcry.security.AuthUser;
 import com.game.warcry.dto.match.*;
+import com.game.warcry.limit.BulkheadFullException;
 import com.game.warcry.service.MatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import com.game.warcry.dto.match.MatchLeaveResponse;
 import com.game.warcry.dto.match.MatchHostLeaveResponse;
@@ -24,7 +27,7 @@ public class MatchController {
     private final MatchService matchService;
 
     @GetMapping
-    @Operation(summary = "매치 목록 조회", description = "생성된 매치들의 목록을 조회합니다.",
+    @Operation(summary = "매치 목록 조회", description = "생성된 전용 서버 매치들의 목록을 오래된 순으로 최대 limit개(기본 10, 최대 100) 조회합니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<?> getMatches(
             @RequestParam(required = false) Boolean isPrivate,
@@ -34,6 +37,8 @@ public class MatchController {
         try {
             MatchListResponse response = matchService.getMatches(isPrivate, status, limit);
             return ResponseEntity.ok(response);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -58,6 +63,8 @@ public class MatchController {
                     .message("해당 매치를 찾을 수 없습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -71,13 +78,10 @@ public class MatchController {
     @PostMapping
     @Operation(summary = "매치 생성", description = "새로운 매치를 생성하고, 사용 가능한 Mirror 서버를 할당합니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<?> createMatch(@RequestBody MatchCreateRequest request, Authentication authentication) {
+    public ResponseEntity<?> createMatch(@RequestBody MatchCreateRequest request, @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름(username) 가져오기
-            String username = authentication.getName();
-
-            // 서비스 메서드 호출 시 username 전달 (서비스에서 userId 조회)
-            MatchCreateResponse response = matchService.createMatch(username, request);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            MatchCreateResponse response = matchService.createMatch(authUser.userId(), request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalStateException e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
@@ -93,6 +97,8 @@ public class MatchController {
                     .message("입력값이 유효하지 않습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -106,13 +112,10 @@ public class MatchController {
     @PostMapping("/{matchId}/join")
     @Operation(summary = "매치 참가", description = "유저가 특정 매치에 참가하여 GUEST로 등록됩니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<?> joinMatch(@PathVariable Long matchId, @RequestBody MatchJoinRequest request, Authentication authentication) {
+    public ResponseEntity<?> joinMatch(@PathVariable Long matchId, @RequestBody MatchJoinRequest request, @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름(username) 가져오기
-            String username = authentication.getName();
-
-            // 서비스 메서드 호출 시 username 전달 (서비스에서 userId 조회)
-            MatchJoinResponse response = matchService.joinMatch(matchId, username, request);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            MatchJoinResponse response = matchService.joinMatch(matchId, authUser.userId(), request);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("매치를 찾을 수 없습니다")) {
@@ -144,6 +147,8 @@ public class MatchController {
                     .message("해당 매치는 이미 인원이 가득 찼습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -159,12 +164,10 @@ public class MatchController {
             security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<?> saveMatchResult(@PathVariable Long matchId,
                                              @RequestBody MatchResultRequest request,
-                                             Authentication authentication) {
+                                             @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름 가져오기
-            String username = authentication.getName();
-
-            MatchResultResponse response = matchService.saveMatchResult(matchId, username, request);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            MatchResultResponse response = matchService.saveMatchResult(matchId, authUser.userId(), request);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (AccessDeniedException e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
@@ -187,6 +190,8 @@ public class MatchController {
                     .message("해당 매치의 결과가 이미 저장되어 있습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -200,12 +205,10 @@ public class MatchController {
     @PostMapping("/{matchId}/leave")
     @Operation(summary = "매치 나가기 (GUEST)", description = "GUEST 역할의 사용자가 매치에서 나갑니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<?> leaveMatch(@PathVariable Long matchId, Authentication authentication) {
+    public ResponseEntity<?> leaveMatch(@PathVariable Long matchId, @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름 가져오기
-            String username = authentication.getName();
-
-            MatchLeaveResponse response = matchService.leaveMatch(matchId, username);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            MatchLeaveResponse response = matchService.leaveMatch(matchId, authUser.userId());
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("매치를 찾을 수 없습니다")) {
@@ -244,6 +247,8 @@ public class MatchController {
                     .message("이미 시작된 매치는 나갈 수 없습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -257,12 +262,10 @@ public class MatchController {
     @PostMapping("/{matchId}/host-leave")
     @Operation(summary = "매치 나가기 (HOST)", description = "HOST 역할의 사용자가 매치에서 나가되, 다른 GUEST가 있을 경우 자동으로 HOST 권한을 이전합니다.",
             security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<?> hostLeaveMatch(@PathVariable Long matchId, Authentication authentication) {
+    public ResponseEntity<?> hostLeaveMatch(@PathVariable Long matchId, @AuthenticationPrincipal AuthUser authUser) {
         try {
-            // 인증된 사용자 이름 가져오기
-            String username = authentication.getName();
-
-            MatchHostLeaveResponse response = matchService.hostLeaveMatch(matchId, username);
+            // 토큰의 userId로 서비스 호출 (username 조회 없음)
+            MatchHostLeaveResponse response = matchService.hostLeaveMatch(matchId, authUser.userId());
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("매치를 찾을 수 없습니다")) {
@@ -301,6 +304,8 @@ public class MatchController {
                     .message("이미 시작된 매치는 나갈 수 없습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -310,4 +315,17 @@ public class MatchController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    // 트래픽 등급 벌크헤드 포화 시 부하 차단 응답
+    private ResponseEntity<ErrorResponse> serviceUnavailable(BulkheadFullException e) {
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .errorCode("SERVICE_UNAVAILABLE")
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+}
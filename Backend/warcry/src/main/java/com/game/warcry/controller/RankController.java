@@ -2,11 +2,13 @@ package com.game.warcry.controller;
 
 import com.game.warcry.dto.ErrorResponse;
 import com.game.warcry.dto.rank.*;
+import com.game.warcry.limit.BulkheadFullException;
 import com.game.warcry.service.RankService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -36,6 +38,8 @@ public class RankController {
                     .message("해당 유저를 찾을 수 없습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -56,6 +60,8 @@ public class RankController {
         try {
             LeaderboardResponse response = rankService.getLeaderboard(tier, page, size);
             return ResponseEntity.ok(response);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -83,6 +89,8 @@ public class RankController {
                     .message("해당 유저를 찾을 수 없습니다.")
                     .build();
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -126,6 +134,8 @@ public class RankController {
                     .message("날짜 형식이 올바르지 않습니다. (YYYYMMDD 형식이어야 합니다)")
                     .build();
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -150,6 +160,8 @@ public class RankController {
                     .message("날짜 형식이 올바르지 않습니다. (YYYYMMDD)")
                     .build();
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -167,6 +179,8 @@ public class RankController {
         try {
             TierDistributionResponse response = rankService.getTierDistribution();
             return ResponseEntity.ok(response);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             ErrorResponse errorResponse = ErrorResponse.builder()
                     .success(false)
@@ -176,4 +190,17 @@ public class RankController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    // 트래픽 등급 벌크헤드 포화 시 부하 차단 응답
+    private ResponseEntity<ErrorResponse> serviceUnavailable(BulkheadFullException e) {
+        ErrorResponse error = ErrorResponse.builder()
+                .success(false)
+                .errorCode("SERVICE_UNAVAILABLE")
+                .message(e.getMessage())
+                .build();
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(error);
+    }
+}
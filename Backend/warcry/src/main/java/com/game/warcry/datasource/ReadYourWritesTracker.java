@@ -0,0 +1,32 @@
+package com.game.warcry.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기 트랜잭션을 커밋한 유저 목록.
+ * 복제 지연 동안 자신이 방금 쓴 데이터를 레플리카에서 못 읽는 일이 없도록,
+ * 윈도우 안에서는 해당 유저의 readOnly 트랜잭션도 프라이머리로 보냅니다.
+ * 인스턴스 로컬 상태이므로 같은 유저의 요청이 다른 인스턴스로 가면 적용되지 않습니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite(Long userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(Long userId) {
+        return recentWriters.getIfPresent(userId) != null;
+    }
+}
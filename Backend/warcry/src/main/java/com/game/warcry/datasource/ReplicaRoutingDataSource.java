@@ -0,0 +1,57 @@
+package com.game.warcry.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션은 레플리카로, 그 외(쓰기 / 트랜잭션 밖)는 프라이머리로 보내는 DataSource.
+ * 트랜잭션의 readOnly 여부가 정해진 뒤에 커넥션을 고르도록 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker tracker;
+    private final Supplier<Long> currentUserId;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReadYourWritesTracker tracker, Supplier<Long> currentUserId) {
+        this.tracker = tracker;
+        this.currentUserId = currentUserId;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId.get();
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 방금 쓰기를 한 유저는 윈도우 동안 프라이머리에서 읽음 (read-your-writes)
+            if (userId != null && tracker.wroteRecently(userId)) {
+                return Route.PRIMARY;
+            }
+            return Route.REPLICA;
+        }
+
+        // 쓰기 트랜잭션이 커밋되면 해당 유저를 기록
+        if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tracker.recordWrite(userId);
+                }
+            });
+        }
+        return Route.PRIMARY;
+    }
+}
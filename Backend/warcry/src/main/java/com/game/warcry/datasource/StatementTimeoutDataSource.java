@@ -0,0 +1,86 @@
+package com.game.warcry.datasource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.IntSupplier;
+
+/**
+ * 커넥션을 얻는 시점의 SQL 타임아웃(초)을 그 커넥션으로 만든 모든 Statement에 적용하는 DataSource.
+ * 타임아웃이 0이면 원래 커넥션을 그대로 돌려주므로 대상 밖의 요청에는 비용이 없습니다.
+ * Statement에 이미 타임아웃이 있으면(쿼리 힌트, 트랜잭션 timeout) 그 값을 유지합니다.
+ */
+public class StatementTimeoutDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final IntSupplier timeoutSeconds;
+
+    public StatementTimeoutDataSource(DataSource target, IntSupplier timeoutSeconds) {
+        super(target);
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withTimeout(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withTimeout(super.getConnection(username, password));
+    }
+
+    // 빈 destroy 시 원래 커넥션 풀도 닫히도록 위임
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection withTimeout(Connection connection) {
+        int seconds = timeoutSeconds.getAsInt();
+        if (seconds <= 0) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new TimeoutHandler(connection, seconds));
+    }
+
+    private record TimeoutHandler(Connection target, int seconds) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Statement timeout " + seconds + "s proxy for [" + target + "]";
+                default:
+                    break;
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if (result instanceof Statement statement && statement.getQueryTimeout() == 0) {
+                statement.setQueryTimeout(seconds);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.game.warcry.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상시 기록 중인 JFR 데이터 중 최근 N분을 파일로 덤프하는 관리 엔드포인트 (/actuator/jfr).
+ * POST {"minutes": 5} → 덤프 디렉터리에 .jfr 파일 생성 후 경로 반환 (JFR.dump begin=-Nm 와 동일)
+ *
+ * 관리자(ROLE_ADMIN)만 호출할 수 있으며, HTTP 보안 설정 밖(JMX 등)으로 노출되어도 같은 검사를 거칩니다.
+ * 디스크를 채우지 않도록 min-dump-interval 안의 재요청은 429로 거절하고, 덤프 파일은 최근 max-retained-dumps 개만 남깁니다.
+ */
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String FILE_PREFIX = "warcry-";
+    private static final String FILE_SUFFIX = ".jfr";
+
+    private final String recordingName;
+    private final Path dumpDirectory;
+    private final int defaultMinutes;
+    private final int maximumMinutes;
+    private final int maxRetainedDumps;
+    private final Duration minInterval;
+
+    private long lastDumpNanos;
+    private boolean dumped;
+
+    public FlightRecorderEndpoint(String recordingName, Path dumpDirectory, int defaultMinutes, int maximumMinutes,
+                                  int maxRetainedDumps, Duration minInterval) {
+        this.recordingName = recordingName;
+        this.dumpDirectory = dumpDirectory;
+        this.defaultMinutes = defaultMinutes;
+        this.maximumMinutes = maximumMinutes;
+        this.maxRetainedDumps = maxRetainedDumps;
+        this.minInterval = minInterval;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> dump(@Nullable Integer minutes)
+            throws IOException, JMException {
+        requireAdmin();
+        int window = minutes == null ? defaultMinutes : minutes;
+        if (window <= 0 || window > maximumMinutes) {
+            throw new IllegalArgumentException("minutes는 1 ~ " + maximumMinutes + " 사이여야 합니다.");
+        }
+
+        long now = System.nanoTime();
+        if (dumped && now - lastDumpNanos < minInterval.toNanos()) {
+            Map<String, Object> rejected = new LinkedHashMap<>();
+            rejected.put("result", "최근 " + minInterval.toSeconds() + "초 안에 이미 덤프했습니다.");
+            return new WebEndpointResponse<>(rejected, WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory
+                .resolve(FILE_PREFIX + LocalDateTime.now().format(FILE_TIME) + "-" + window + "m" + FILE_SUFFIX)
+                .toAbsolutePath();
+
+        // 진단 명령 MBean으로 jcmd JFR.dump 와 같은 범위 덤프 수행
+        String result = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "jfrDump",
+                new Object[]{new String[]{"name=" + recordingName, "filename=" + file, "begin=-" + window + "m"}},
+                new String[]{String[].class.getName()});
+        dumped = true;
+        lastDumpNanos = now;
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("file", file.toString());
+        response.put("minutes", window);
+        response.put("result", result == null ? "" : result.trim());
+        response.put("deleted", deleteOldDumps());
+        return new WebEndpointResponse<>(response);
+    }
+
+    private static void requireAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean admin = authentication != null && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch("ROLE_ADMIN"::equals);
+        if (!admin) {
+            throw new AccessDeniedException("JFR 덤프는 관리자만 요청할 수 있습니다.");
+        }
+    }
+
+    // 오래된 덤프부터 지워 최근 maxRetainedDumps 개만 남김 (이 엔드포인트가 만든 파일 이름만 대상)
+    private List<String> deleteOldDumps() throws IOException {
+        List<Path> dumps = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dumpDirectory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            files.forEach(dumps::add);
+        }
+        dumps.sort(Comparator.comparing(FlightRecorderEndpoint::lastModified).reversed());
+
+        List<String> deleted = new ArrayList<>();
+        for (Path old : dumps.subList(Math.min(maxRetainedDumps, dumps.size()), dumps.size())) {
+            if (Files.deleteIfExists(old)) {
+                deleted.add(old.getFileName().toString());
+            }
+        }
+        return deleted;
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L; // 이미 지워진 파일은 가장 오래된 것으로 취급
+        }
+    }
+}
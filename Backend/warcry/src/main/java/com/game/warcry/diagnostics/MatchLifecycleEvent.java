@@ -0,0 +1,50 @@
+package com.game.warcry.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 매치 생성 / 참가 / 결과 저장 구간.
+ */
+@Name("com.game.warcry.MatchLifecycle")
+@Label("Match Lifecycle")
+@Category({"WarCry", "Match"})
+@StackTrace(false)
+public class MatchLifecycleEvent extends TransactionalEvent {
+
+    public static final String CREATE = "create";
+    public static final String JOIN = "join";
+    public static final String RESULT = "result";
+
+    public static final String DEDICATED = "dedicated";
+    public static final String LISTEN = "listen";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Server Kind")
+    String serverKind;
+
+    @Label("Match Id")
+    long matchId;
+
+    @Label("User Id")
+    long userId;
+
+    public static MatchLifecycleEvent begin(String operation, String serverKind, Long matchId, Long userId) {
+        MatchLifecycleEvent event = new MatchLifecycleEvent();
+        event.operation = operation;
+        event.serverKind = serverKind;
+        event.matchId = matchId != null ? matchId : 0L;
+        event.userId = userId != null ? userId : 0L;
+        event.beginInTransaction();
+        return event;
+    }
+
+    // 생성 시에는 저장 후에 매치 ID가 정해짐
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId != null ? matchId : 0L;
+    }
+}
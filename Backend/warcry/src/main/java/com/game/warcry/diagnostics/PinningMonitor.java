@@ -0,0 +1,103 @@
+package com.game.warcry.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독해 가상 스레드가 캐리어 스레드에 고정(pinning)된 구간을 경고합니다.
+ * synchronized 블록 안에서 I/O를 기다리는 코드(드라이버 포함)가 있으면 캐리어 풀이 막히므로,
+ * 같은 호출 위치는 처음 한 번만 스택과 함께 로그를 남기고 이후에는 횟수만 집계합니다.
+ */
+public class PinningMonitor implements AutoCloseable {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Logger log = LoggerFactory.getLogger(PinningMonitor.class);
+
+    private final RecordingStream stream;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final LongAccumulator maxPinnedNanos = new LongAccumulator(Long::max, 0L);
+    private final Map<String, LongAdder> countsBySite = new ConcurrentHashMap<>();
+
+    public PinningMonitor(Duration threshold) {
+        this.stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+    }
+
+    public void start() {
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작");
+    }
+
+    void onPinned(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        pinnedCount.increment();
+        pinnedNanos.add(nanos);
+        maxPinnedNanos.accumulate(nanos);
+
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+                .findFirst()
+                .map(PinningMonitor::describe)
+                .orElse("unknown");
+
+        LongAdder siteCount = countsBySite.computeIfAbsent(site, key -> new LongAdder());
+        siteCount.increment();
+        if (siteCount.sum() == 1) {
+            String stack = frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(frame -> "\tat " + describe(frame))
+                    .collect(Collectors.joining("\n"));
+            log.warn("가상 스레드 pinning 감지: {}ms, 위치: {}\n{}", nanos / 1_000_000, site, stack);
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    public long getTotalPinnedNanos() {
+        return pinnedNanos.sum();
+    }
+
+    public long getMaxPinnedNanos() {
+        return maxPinnedNanos.get();
+    }
+
+    // 호출 위치별 pinning 횟수
+    public Map<String, Long> getCountsBySite() {
+        return countsBySite.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,35 @@
+package com.game.warcry.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 매치 결과의 레이팅 반영 구간 (rating / rating_history / daily_stats 갱신).
+ * 결과 저장 트랜잭션에 합류하므로 그 트랜잭션이 끝날 때 함께 기록됩니다.
+ */
+@Name("com.game.warcry.RatingUpdate")
+@Label("Rating Update")
+@Category({"WarCry", "Rating"})
+@StackTrace(false)
+public class RatingUpdateEvent extends TransactionalEvent {
+
+    @Label("Match Id")
+    long matchId;
+
+    @Label("Winners")
+    int winners;
+
+    @Label("Losers")
+    int losers;
+
+    public static RatingUpdateEvent begin(Long matchId, int winners, int losers) {
+        RatingUpdateEvent event = new RatingUpdateEvent();
+        event.matchId = matchId != null ? matchId : 0L;
+        event.winners = winners;
+        event.losers = losers;
+        event.beginInTransaction();
+        return event;
+    }
+}
@@ -0,0 +1,48 @@
+package com.game.warcry.diagnostics;
+
+import com.game.warcry.model.GameServer;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 전용 게임 서버 할당 조회 구간 (사용 가능한 서버 검색).
+ */
+@Name("com.game.warcry.ServerAllocation")
+@Label("Server Allocation")
+@Category({"WarCry", "Match"})
+@StackTrace(false)
+public class ServerAllocationEvent extends Event {
+
+    @Label("Game Server Id")
+    long gameServerId;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Query Count")
+    int queryCount;
+
+    public static Optional<GameServer> record(Supplier<Optional<GameServer>> allocation) {
+        ServerAllocationEvent event = new ServerAllocationEvent();
+        if (!event.isEnabled()) {
+            return allocation.get();
+        }
+        long statements = StatementCounter.current();
+        event.begin();
+        Optional<GameServer> server = allocation.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.found = server.isPresent();
+            event.gameServerId = server.map(GameServer::getId).orElse(0L);
+            event.queryCount = (int) (StatementCounter.current() - statements);
+            event.commit();
+        }
+        return server;
+    }
+}
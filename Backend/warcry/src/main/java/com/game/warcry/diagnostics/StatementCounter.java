@@ -0,0 +1,21 @@
+package com.game.warcry.diagnostics;
+
+/**
+ * 스레드별로 준비(prepare)된 SQL 문 수. JFR 이벤트의 queryCount 계산에 사용합니다.
+ * Hibernate StatementInspector에서 증가시키며, 배치 INSERT는 묶음 하나가 1건으로 집계됩니다.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private StatementCounter() {
+    }
+
+    public static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.warcry.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션이 끝나는 시점(커밋/롤백 모두)에 기록되는 JFR 이벤트.
+ * 지속 시간에 커밋 시 flush/COMMIT 까지 포함되며, 기록 중이 아니면 begin 외에는 아무 일도 하지 않습니다.
+ */
+@Category({"WarCry"})
+abstract class TransactionalEvent extends Event {
+
+    @Label("Query Count")
+    @Description("이벤트 구간에서 실행된 SQL 문 수")
+    int queryCount;
+
+    @Label("Committed")
+    boolean committed;
+
+    private transient long statementsAtBegin;
+
+    // 메서드 시작 시 호출 (트랜잭션이 없으면 기록하지 않음)
+    void beginInTransaction() {
+        if (!isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        begin();
+        statementsAtBegin = StatementCounter.current();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                finish(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void finish(boolean committed) {
+        end();
+        if (shouldCommit()) {
+            this.queryCount = (int) (StatementCounter.current() - statementsAtBegin);
+            this.committed = committed;
+            commit();
+        }
+    }
+}
@@ -3,5 +3,7 @@ package com.game.warcry.dto;
 public record LoginResponse(
         String accessToken,
         String tokenType, // 예: "Bearer"
-        Long expiresIn // 토큰 만료 시간 (초 단위) - 선택 사항
-) {}
\ No newline at end of file
+        Long expiresIn, // 액세스 토큰 만료 시간 (초 단위)
+        String refreshToken, // /api/auth/refresh 에서 새 토큰 발급에 사용 (1회용)
+        Long refreshExpiresIn // 리프레시 토큰 만료 시간 (초 단위)
+) {}
@@ -0,0 +1,21 @@
+package com.game.warcry.dto.match;
+
+import com.game.warcry.model.Match;
+
+// 매치 상세 조회용 프로젝션 (매치 + 게임 서버 + 호스트/게스트 닉네임을 한 번의 쿼리로)
+public record MatchDetailView(
+        Long matchId,
+        String title,
+        Boolean isPrivate,
+        Match.MatchStatus status,
+        String serverIp,
+        Integer serverPort,
+        String hostIp,
+        Integer hostPort,
+        String hostNickname,
+        String guestNickname) {
+
+    public boolean isListenServer() {
+        return hostIp != null && hostPort != null;
+    }
+}
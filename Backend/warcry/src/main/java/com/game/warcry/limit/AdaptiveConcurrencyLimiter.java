@@ -0,0 +1,126 @@
+package com.game.warcry.limit;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측 지연 시간 기반 동시 처리 한도 (gradient 방식).
+ *
+ * 표본 windowSize개마다 구간 평균 지연(shortRtt)을 장기 평균(longRtt)과 비교해
+ * gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0) 만큼 한도를 줄이고, 여유분 sqrt(limit)을 더합니다.
+ * DB가 느려져 지연이 늘면 한도가 줄고, 회복되면 다시 늘어납니다. 한도의 절반도 쓰지 않는 구간은 조정하지 않습니다.
+ *
+ * 우선순위별로 한도의 일부(share)까지만 진입할 수 있어, 폴링 요청이 결과 저장 요청의 자리를 차지하지 못합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int LONG_WINDOW = 100;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+    private final Map<RequestPriority, Double> shares;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    // 현재 구간 표본
+    private final LongAdder windowCount = new LongAdder();
+    private final LongAdder windowNanos = new LongAdder();
+    private final AtomicInteger windowMaxInflight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private double longRttNanos;
+
+    private final Map<RequestPriority, LongAdder> rejected = new EnumMap<>(RequestPriority.class);
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int windowSize,
+                                      Map<RequestPriority, Double> shares) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit || windowSize < 1) {
+            throw new IllegalArgumentException("동시 처리 한도 설정값이 올바르지 않습니다.");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSize = windowSize;
+        this.shares = new EnumMap<>(shares);
+        for (RequestPriority priority : RequestPriority.values()) {
+            this.shares.putIfAbsent(priority, 1.0);
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    // 진입 허용 시 true (반드시 release 호출), 한도 초과 시 false
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) Math.ceil(limit * shares.get(priority)));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                windowMaxInflight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        inflight.decrementAndGet();
+        windowNanos.add(rttNanos);
+        windowCount.increment();
+        if (windowCount.sum() >= windowSize && updateLock.tryLock()) {
+            try {
+                updateLimit();
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    private void updateLimit() {
+        long count = windowCount.sumThenReset();
+        long nanos = windowNanos.sumThenReset();
+        int maxInflight = windowMaxInflight.getAndSet(inflight.get());
+        if (count == 0) {
+            return;
+        }
+        double shortRtt = (double) nanos / count;
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+            return;
+        }
+        longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOW;
+        // 장기 평균이 지금보다 크게 높으면(부하 해소 직후) 빠르게 따라 내려감
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (maxInflight < current / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejectedCount(RequestPriority priority) {
+        return rejected.get(priority).sum();
+    }
+}
@@ -0,0 +1,93 @@
+package com.game.warcry.limit;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트래픽 등급 하나의 세마포어 벌크헤드.
+ * 등급별 동시 실행 수를 커넥션 풀 크기 안에서 나눠 두어, 한 등급이 몰려도 다른 등급이 쓸 커넥션이 남도록 합니다.
+ */
+public class Bulkhead {
+
+    private final TrafficClass trafficClass;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final int statementTimeoutSeconds;
+
+    // 자리 대기 시간 / 거절 통계
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanosSeen = new LongAccumulator(Long::max, 0L);
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public Bulkhead(TrafficClass trafficClass, int maxConcurrent, Duration maxWait, Duration statementTimeout) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException(trafficClass + " 벌크헤드 동시 실행 수는 1 이상이어야 합니다.");
+        }
+        this.trafficClass = trafficClass;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        // JDBC 쿼리 타임아웃은 초 단위 (0 = 제한 없음)
+        this.statementTimeoutSeconds = statementTimeout.isZero() ? 0 : (int) Math.max(1, statementTimeout.toSeconds());
+    }
+
+    // 자리를 얻으면 true (반드시 release 호출), 대기 시간 안에 못 얻으면 false
+    public boolean tryAcquire() throws InterruptedException {
+        long start = System.nanoTime();
+        boolean acquired = permits.tryAcquire() || permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        long waited = System.nanoTime() - start;
+        maxWaitNanosSeen.accumulate(waited);
+        if (!acquired) {
+            rejectedCount.increment();
+            return false;
+        }
+        acquiredCount.increment();
+        waitNanos.add(waited);
+        return true;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public TrafficClass getTrafficClass() {
+        return trafficClass;
+    }
+
+    public int getStatementTimeoutSeconds() {
+        return statementTimeoutSeconds;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanosSeen.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
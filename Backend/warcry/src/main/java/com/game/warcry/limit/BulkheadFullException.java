@@ -0,0 +1,21 @@
+package com.game.warcry.limit;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 트래픽 등급의 동시 실행 한도가 가득 차 대기 시간 안에 자리를 얻지 못했을 때 발생합니다. (HTTP 503)
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    private final TrafficClass trafficClass;
+    private final Duration retryAfter;
+
+    public BulkheadFullException(TrafficClass trafficClass, Duration retryAfter) {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.");
+        this.trafficClass = trafficClass;
+        this.retryAfter = retryAfter;
+    }
+}
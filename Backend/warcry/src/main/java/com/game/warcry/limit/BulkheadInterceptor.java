@@ -0,0 +1,38 @@
+package com.game.warcry.limit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Bulkheaded} 메서드를 트래픽 등급 벌크헤드 안에서 실행합니다.
+ * 트랜잭션 어드바이저보다 바깥에서 동작하므로, 자리를 기다리는 동안에는 커넥션을 잡지 않습니다.
+ */
+public class BulkheadInterceptor implements MethodInterceptor {
+
+    private final Bulkheads bulkheads;
+    private final Map<Method, TrafficClass> classes = new ConcurrentHashMap<>();
+
+    public BulkheadInterceptor(Bulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        TrafficClass trafficClass = classes.computeIfAbsent(invocation.getMethod(), method ->
+                AnnotatedElementUtils.findMergedAnnotation(
+                        AopUtils.getMostSpecificMethod(method, invocation.getThis().getClass()), Bulkheaded.class).value());
+
+        Bulkhead entered = bulkheads.enter(trafficClass);
+        try {
+            return invocation.proceed();
+        } finally {
+            Bulkheads.exit(entered);
+        }
+    }
+}
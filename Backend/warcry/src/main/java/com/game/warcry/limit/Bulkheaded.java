@@ -0,0 +1,17 @@
+package com.game.warcry.limit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서비스 메서드를 해당 트래픽 등급의 벌크헤드 안에서 실행합니다.
+ * 이미 다른 벌크헤드 안에서 호출된 경우(결과 저장 → 레이팅 반영 등)는 바깥 등급을 그대로 사용합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkheaded {
+
+    TrafficClass value();
+}
@@ -0,0 +1,63 @@
+package com.game.warcry.limit;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 트래픽 등급별 벌크헤드 모음. 현재 스레드가 실행 중인 벌크헤드를 기억해
+ * 중첩 호출은 자리를 다시 잡지 않고, 커넥션 획득 시 해당 등급의 SQL 타임아웃을 알려 줍니다.
+ */
+public class Bulkheads {
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private final Map<TrafficClass, Bulkhead> bulkheads;
+    private final Duration retryAfter;
+
+    public Bulkheads(Collection<Bulkhead> bulkheads, Duration retryAfter) {
+        this.bulkheads = new EnumMap<>(TrafficClass.class);
+        for (Bulkhead bulkhead : bulkheads) {
+            this.bulkheads.put(bulkhead.getTrafficClass(), bulkhead);
+        }
+        if (this.bulkheads.size() != TrafficClass.values().length) {
+            throw new IllegalArgumentException("모든 트래픽 등급의 벌크헤드가 필요합니다.");
+        }
+        this.retryAfter = retryAfter;
+    }
+
+    // 자리를 잡고 현재 스레드에 등록. 이미 벌크헤드 안이면 null (중첩 호출)
+    public Bulkhead enter(TrafficClass trafficClass) throws InterruptedException {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        Bulkhead bulkhead = bulkheads.get(trafficClass);
+        if (!bulkhead.tryAcquire()) {
+            throw new BulkheadFullException(trafficClass, retryAfter);
+        }
+        CURRENT.set(bulkhead);
+        return bulkhead;
+    }
+
+    public static void exit(Bulkhead entered) {
+        if (entered != null) {
+            CURRENT.remove();
+            entered.release();
+        }
+    }
+
+    public Bulkhead get(TrafficClass trafficClass) {
+        return bulkheads.get(trafficClass);
+    }
+
+    public Collection<Bulkhead> all() {
+        return bulkheads.values();
+    }
+
+    // 현재 스레드의 등급 SQL 타임아웃(초), 벌크헤드 밖이면 0
+    public static int currentStatementTimeoutSeconds() {
+        Bulkhead bulkhead = CURRENT.get();
+        return bulkhead != null ? bulkhead.getStatementTimeoutSeconds() : 0;
+    }
+}
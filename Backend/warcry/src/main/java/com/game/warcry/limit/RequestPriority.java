@@ -0,0 +1,43 @@
+package com.game.warcry.limit;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * 부하 차단 시 요청 우선순위. 한도의 일부만 사용할 수 있는 낮은 등급부터 먼저 거절됩니다.
+ * <ul>
+ *   <li>CRITICAL: 게임 결과 저장, 토큰 갱신 (놓치면 매치/세션이 깨지는 요청)</li>
+ *   <li>NORMAL: 매치 생성/참가/나가기, 로그인 등 사용자 동작</li>
+ *   <li>POLLING: 로비 목록, 랭킹/통계 조회 (클라이언트가 주기적으로 다시 요청)</li>
+ * </ul>
+ */
+public enum RequestPriority {
+    CRITICAL, NORMAL, POLLING;
+
+    private static final List<Rule> RULES = List.of(
+            new Rule("POST", "/api/match/{matchId}/result", CRITICAL),
+            new Rule("POST", "/api/listen/match/{matchId}/result", CRITICAL),
+            new Rule("POST", "/api/auth/refresh", CRITICAL),
+            new Rule("GET", "/api/match", POLLING),
+            new Rule("GET", "/api/listen/match", POLLING),
+            new Rule("GET", "/api/rank/**", POLLING));
+
+    public static RequestPriority classify(String method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Rule rule : RULES) {
+            if (rule.method.equals(method) && rule.pattern.matches(container)) {
+                return rule.priority;
+            }
+        }
+        return NORMAL;
+    }
+
+    private record Rule(String method, PathPattern pattern, RequestPriority priority) {
+        Rule(String method, String pattern, RequestPriority priority) {
+            this(method, PathPatternParser.defaultInstance.parse(pattern), priority);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.game.warcry.limit;
+
+/**
+ * DB 커넥션을 나눠 쓰는 트래픽 등급. 등급마다 동시 실행 수와 SQL 실행 시간 상한이 따로 정해집니다.
+ */
+public enum TrafficClass {
+    /** 랭킹/히스토리/통계 조회 */
+    RANK_READ,
+    /** 로비 목록, 매치 상세/생성/참가/나가기 */
+    LOBBY,
+    /** 게임 결과 저장 (레이팅 반영 포함) */
+    RESULT_WRITE
+}
@@ -0,0 +1,36 @@
+package com.game.warcry.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버린 이벤트 수를 집계하는 비동기 appender.
+ * 요청 스레드는 제한된 큐에 이벤트를 넣기만 하고(neverBlock), 큐가 discardingThreshold 아래로 남으면
+ * INFO 이하 이벤트를, 가득 차면 모든 이벤트를 버립니다. 큐 여유 공간은 넣기 직전에 읽으므로 집계값은 근사치입니다.
+ *
+ * logback이 직접 생성하는 객체라 집계값은 정적 카운터로 노출합니다.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+            DROPPED.increment();
+            return;
+        }
+        if (isNeverBlock() && remaining == 0) {
+            DROPPED.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    public static long getDroppedCount() {
+        return DROPPED.sum();
+    }
+}
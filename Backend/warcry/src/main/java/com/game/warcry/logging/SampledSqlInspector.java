@@ -0,0 +1,57 @@
+package com.game.warcry.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 문을 N건 중 1건만 로그로 남기는 StatementInspector. (바인딩 값은 남기지 않음)
+ * 모든 SQL을 DEBUG/TRACE로 찍는 대신 부하 중에도 켜 둘 수 있는 수준의 표본만 남기며,
+ * 샘플링 비율은 /actuator/sqltrace 로 실행 중에 바꿀 수 있습니다. 느린 쿼리는 hibernate.log_slow_query가 따로 기록합니다.
+ */
+public class SampledSqlInspector implements StatementInspector {
+
+    private final Logger log = LoggerFactory.getLogger("com.game.warcry.sql.sampled");
+
+    private volatile int sampleRate;
+    private final LongAdder inspected = new LongAdder();
+    private final LongAdder sampled = new LongAdder();
+
+    public SampledSqlInspector(int sampleRate) {
+        setSampleRate(sampleRate);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        inspected.increment();
+        int rate = sampleRate;
+        if (rate > 0 && ThreadLocalRandom.current().nextInt(rate) == 0) {
+            sampled.increment();
+            log.info("sampled SQL (1/{}): {}", rate, sql);
+        }
+        return sql;
+    }
+
+    // 0 = 끔, 1 = 모든 SQL, N = 평균 N건 중 1건
+    public void setSampleRate(int sampleRate) {
+        if (sampleRate < 0) {
+            throw new IllegalArgumentException("샘플링 비율은 0 이상이어야 합니다.");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public long getInspectedCount() {
+        return inspected.sum();
+    }
+
+    public long getSampledCount() {
+        return sampled.sum();
+    }
+}
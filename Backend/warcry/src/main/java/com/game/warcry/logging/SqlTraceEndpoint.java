@@ -0,0 +1,59 @@
+package com.game.warcry.logging;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL 추적 런타임 스위치 (/actuator/sqltrace).
+ * GET: 현재 설정과 집계값, POST {"sampleRate": N, "slowQueries": true|false}: 샘플링 비율 / 느린 쿼리 로그 on/off
+ */
+@Endpoint(id = "sqltrace")
+public class SqlTraceEndpoint {
+
+    static final String SLOW_QUERY_LOGGER = "org.hibernate.SQL_SLOW";
+
+    private final SampledSqlInspector inspector;
+    private final LoggingSystem loggingSystem;
+    private final long slowQueryThresholdMillis;
+
+    public SqlTraceEndpoint(SampledSqlInspector inspector, LoggingSystem loggingSystem, long slowQueryThresholdMillis) {
+        this.inspector = inspector;
+        this.loggingSystem = loggingSystem;
+        this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("sampleRate", inspector.getSampleRate());
+        settings.put("inspected", inspector.getInspectedCount());
+        settings.put("sampled", inspector.getSampledCount());
+        settings.put("slowQueryThresholdMillis", slowQueryThresholdMillis);
+        settings.put("slowQueries", slowQueriesEnabled());
+        settings.put("droppedLogEvents", CountingAsyncAppender.getDroppedCount());
+        return settings;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Integer sampleRate, @Nullable Boolean slowQueries) {
+        if (sampleRate != null) {
+            inspector.setSampleRate(sampleRate);
+        }
+        if (slowQueries != null) {
+            loggingSystem.setLogLevel(SLOW_QUERY_LOGGER, slowQueries ? LogLevel.INFO : LogLevel.OFF);
+        }
+        return settings();
+    }
+
+    private boolean slowQueriesEnabled() {
+        LogLevel level = loggingSystem.getLoggerConfiguration(SLOW_QUERY_LOGGER).getEffectiveLevel();
+        return level != LogLevel.OFF && level.ordinal() <= LogLevel.INFO.ordinal();
+    }
+}
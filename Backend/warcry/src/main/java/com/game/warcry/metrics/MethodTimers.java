@@ -0,0 +1,100 @@
+package com.game.warcry.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 메서드별 지연 시간 Timer 모음 (결과 종류별로 하나씩).
+ * Timer는 메서드/결과 조합이 처음 기록될 때만 만들고, 이후 호출은 Method 키 조회와 기록만 하므로 객체를 할당하지 않습니다.
+ * 분위수는 HdrHistogram 기반 p50/p99/p999와 Prometheus 히스토그램 버킷으로 함께 노출됩니다.
+ *
+ * 컨트롤러는 예외를 잡아 4xx/5xx ResponseEntity 로 돌려주므로, 결과는 예외 여부가 아니라 반환된 상태 코드로 나눕니다.
+ */
+public class MethodTimers {
+
+    // outcome 태그 값
+    public enum Outcome {
+        SUCCESS("success"),             // 정상 반환 (ResponseEntity 라면 1xx~3xx)
+        CLIENT_ERROR("client_error"),   // 4xx ResponseEntity
+        SERVER_ERROR("server_error"),   // 5xx ResponseEntity
+        ERROR("error");                 // 예외가 밖으로 던져짐
+
+        private static final Outcome[] VALUES = values();
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+
+        // 반환값으로 결과 판단 (ResponseEntity 가 아니면 성공)
+        public static Outcome of(Object result) {
+            if (result instanceof ResponseEntity<?> response) {
+                int status = response.getStatusCode().value();
+                if (status >= 500) {
+                    return SERVER_ERROR;
+                }
+                if (status >= 400) {
+                    return CLIENT_ERROR;
+                }
+            }
+            return SUCCESS;
+        }
+    }
+
+    private final Supplier<MeterRegistry> registry;
+    private final String name;
+    private final String ownerTag;
+    private final String owner;
+    private final Duration minimumExpected;
+    private final Duration maximumExpected;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    /**
+     * @param owner 태그에 기록할 소유자 이름 (null이면 메서드를 선언한 클래스 이름)
+     */
+    public MethodTimers(Supplier<MeterRegistry> registry, String name, String ownerTag, String owner,
+                        Duration minimumExpected, Duration maximumExpected) {
+        this.registry = registry;
+        this.name = name;
+        this.ownerTag = ownerTag;
+        this.owner = owner;
+        this.minimumExpected = minimumExpected;
+        this.maximumExpected = maximumExpected;
+    }
+
+    public void record(Method method, long nanos, Outcome outcome) {
+        Timer[] byOutcome = timers.get(method);
+        if (byOutcome == null) {
+            byOutcome = timers.computeIfAbsent(method, m -> new Timer[Outcome.VALUES.length]);
+        }
+        Timer timer = byOutcome[outcome.ordinal()];
+        if (timer == null) {
+            // 동시에 처음 기록해도 레지스트리가 같은 Timer를 돌려주므로 중복 생성은 무해
+            timer = timer(method, outcome);
+            byOutcome[outcome.ordinal()] = timer;
+        }
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(Method method, Outcome outcome) {
+        String ownerName = owner != null ? owner : method.getDeclaringClass().getSimpleName();
+        return Timer.builder(name)
+                .tag(ownerTag, ownerName)
+                .tag("method", method.getName())
+                .tag("outcome", outcome.tag)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(minimumExpected)
+                .maximumExpectedValue(maximumExpected)
+                .register(registry.get());
+    }
+}
@@ -0,0 +1,29 @@
+package com.game.warcry.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 컨트롤러/리포지토리 메서드 호출 시간을 {@link MethodTimers}에 기록하는 AOP 인터셉터.
+ */
+public class TimedMethodInterceptor implements MethodInterceptor {
+
+    private final MethodTimers timers;
+
+    public TimedMethodInterceptor(MethodTimers timers) {
+        this.timers = timers;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        MethodTimers.Outcome outcome = MethodTimers.Outcome.ERROR;
+        try {
+            Object result = invocation.proceed();
+            outcome = MethodTimers.Outcome.of(result);
+            return result;
+        } finally {
+            timers.record(invocation.getMethod(), System.nanoTime() - start, outcome);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.game.warcry.metrics;
+
+import com.game.warcry.cache.CacheInvalidationListener;
+import com.game.warcry.cache.CacheInvalidationPublisher;
+import com.game.warcry.cache.UserCache;
+import com.game.warcry.cache.UsernameBloomFilter;
+import com.game.warcry.diagnostics.PinningMonitor;
+import com.game.warcry.limit.AdaptiveConcurrencyLimiter;
+import com.game.warcry.limit.Bulkhead;
+import com.game.warcry.limit.Bulkheads;
+import com.game.warcry.limit.RequestPriority;
+import com.game.warcry.logging.CountingAsyncAppender;
+import com.game.warcry.logging.SampledSqlInspector;
+import com.game.warcry.security.PasswordHashingExecutor;
+import com.game.warcry.security.jwt.JWTUtil;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 애플리케이션 내부 통계를 스크레이프 시점에 읽어 가는 게이지/카운터.
+ * (캐시 히트율, username Bloom 필터, 비밀번호 해싱 풀, 가상 스레드 pinning, 로그 유실/SQL 샘플링, 동시 처리 한도, 벌크헤드, Hibernate 2차 캐시 리전, 인스턴스 간 캐시 무효화)
+ * 값은 각 컴포넌트가 이미 집계하고 있는 카운터를 그대로 읽으므로 요청 경로에 추가 비용이 없습니다.
+ */
+@Component
+public class WarcryMetricsBinder implements MeterBinder {
+
+    private final JWTUtil jwtUtil;
+    private final UserCache userCache;
+    private final UsernameBloomFilter usernameBloomFilter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final ObjectProvider<PinningMonitor> pinningMonitor;
+    private final SampledSqlInspector sampledSqlInspector;
+    private final ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter;
+    private final Bulkheads bulkheads;
+    private final ObjectProvider<CacheManager> hibernateCacheManager;
+    private final ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisher;
+    private final ObjectProvider<CacheInvalidationListener> cacheInvalidationListener;
+
+    public WarcryMetricsBinder(JWTUtil jwtUtil, UserCache userCache, UsernameBloomFilter usernameBloomFilter,
+                               PasswordHashingExecutor passwordHashingExecutor,
+                               ObjectProvider<PinningMonitor> pinningMonitor,
+                               SampledSqlInspector sampledSqlInspector,
+                               ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter,
+                               Bulkheads bulkheads,
+                               @Qualifier("hibernateCacheManager") ObjectProvider<CacheManager> hibernateCacheManager,
+                               ObjectProvider<CacheInvalidationPublisher> cacheInvalidationPublisher,
+                               ObjectProvider<CacheInvalidationListener> cacheInvalidationListener) {
+        this.jwtUtil = jwtUtil;
+        this.userCache = userCache;
+        this.usernameBloomFilter = usernameBloomFilter;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.pinningMonitor = pinningMonitor;
+        this.sampledSqlInspector = sampledSqlInspector;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.bulkheads = bulkheads;
+        this.hibernateCacheManager = hibernateCacheManager;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.cacheInvalidationListener = cacheInvalidationListener;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, "jwt", jwtUtil, JWTUtil::getVerificationCacheStats);
+        bindCache(registry, "user.username", userCache, UserCache::usernameStats);
+        bindCache(registry, "user.id", userCache, UserCache::idStats);
+        bindUsernameFilter(registry);
+        bindPasswordHashing(registry);
+        pinningMonitor.ifAvailable(monitor -> bindPinning(registry, monitor));
+        bindLogging(registry);
+        concurrencyLimiter.ifAvailable(limiter -> bindConcurrencyLimit(registry, limiter));
+        bulkheads.all().forEach(bulkhead -> bindBulkhead(registry, bulkhead));
+        hibernateCacheManager.ifAvailable(manager -> bindSecondLevelCache(registry, manager));
+        cacheInvalidationPublisher.ifAvailable(publisher -> bindInvalidationPublisher(registry, publisher));
+        cacheInvalidationListener.ifAvailable(listener -> bindInvalidationListener(registry, listener));
+    }
+
+    // 미터는 대상 객체를 약한 참조로 들고 있으므로 싱글톤 빈을 대상으로 등록
+    private static <T> void bindCache(MeterRegistry registry, String cache, T owner, Function<T, CacheStats> stats) {
+        FunctionCounter.builder("warcry.cache.requests", owner, o -> stats.apply(o).hitCount())
+                .tag("cache", cache).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("warcry.cache.requests", owner, o -> stats.apply(o).missCount())
+                .tag("cache", cache).tag("result", "miss")
+                .register(registry);
+        Gauge.builder("warcry.cache.hit.ratio", owner, o -> stats.apply(o).hitRate())
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private void bindUsernameFilter(MeterRegistry registry) {
+        UsernameBloomFilter filter = usernameBloomFilter;
+        FunctionCounter.builder("warcry.username.filter.checks", filter, UsernameBloomFilter::getDefiniteMisses)
+                .tag("result", "definite_miss")
+                .register(registry);
+        FunctionCounter.builder("warcry.username.filter.checks", filter, UsernameBloomFilter::getProbableHits)
+                .tag("result", "probable_hit")
+                .register(registry);
+        FunctionCounter.builder("warcry.username.filter.false.positives", filter, UsernameBloomFilter::getFalsePositives)
+                .register(registry);
+        Gauge.builder("warcry.username.filter.false.positive.rate", filter, UsernameBloomFilter::observedFalsePositiveRate)
+                .tag("kind", "observed")
+                .register(registry);
+        Gauge.builder("warcry.username.filter.false.positive.rate", filter, UsernameBloomFilter::expectedFalsePositiveRate)
+                .tag("kind", "expected")
+                .register(registry);
+    }
+
+    private void bindPasswordHashing(MeterRegistry registry) {
+        PasswordHashingExecutor executor = passwordHashingExecutor;
+        Gauge.builder("warcry.password.hashing.queue", executor, PasswordHashingExecutor::getQueueDepth)
+                .register(registry);
+        Gauge.builder("warcry.password.hashing.active", executor, PasswordHashingExecutor::getActiveCount)
+                .register(registry);
+        Gauge.builder("warcry.password.hashing.pool.size", executor, PasswordHashingExecutor::getPoolSize)
+                .register(registry);
+        FunctionTimer.builder("warcry.password.hashing", executor,
+                        PasswordHashingExecutor::getHashCount, PasswordHashingExecutor::getTotalHashNanos,
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+        TimeGauge.builder("warcry.password.hashing.max", executor, TimeUnit.NANOSECONDS,
+                        PasswordHashingExecutor::getMaxHashNanos)
+                .register(registry);
+        FunctionCounter.builder("warcry.password.hashing.rejected", executor, PasswordHashingExecutor::getRejectedCount)
+                .register(registry);
+    }
+
+    private static void bindPinning(MeterRegistry registry, PinningMonitor monitor) {
+        FunctionTimer.builder("warcry.virtual.thread.pinned", monitor,
+                        PinningMonitor::getPinnedCount, PinningMonitor::getTotalPinnedNanos, TimeUnit.NANOSECONDS)
+                .register(registry);
+        TimeGauge.builder("warcry.virtual.thread.pinned.max", monitor, TimeUnit.NANOSECONDS,
+                        PinningMonitor::getMaxPinnedNanos)
+                .register(registry);
+    }
+
+    private void bindLogging(MeterRegistry registry) {
+        FunctionCounter.builder("warcry.logging.dropped", CountingAsyncAppender.class,
+                        appender -> CountingAsyncAppender.getDroppedCount())
+                .register(registry);
+        FunctionCounter.builder("warcry.sql.sampled", sampledSqlInspector, SampledSqlInspector::getSampledCount)
+                .register(registry);
+    }
+
+    private static void bindConcurrencyLimit(MeterRegistry registry, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("warcry.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(registry);
+        Gauge.builder("warcry.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .register(registry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            FunctionCounter.builder("warcry.concurrency.rejected", limiter, l -> l.getRejectedCount(priority))
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+
+    private static void bindBulkhead(MeterRegistry registry, Bulkhead bulkhead) {
+        String trafficClass = bulkhead.getTrafficClass().name().toLowerCase();
+        FunctionTimer.builder("warcry.bulkhead.wait", bulkhead,
+                        Bulkhead::getAcquiredCount, Bulkhead::getTotalWaitNanos, TimeUnit.NANOSECONDS)
+                .tag("class", trafficClass)
+                .register(registry);
+        TimeGauge.builder("warcry.bulkhead.wait.max", bulkhead, TimeUnit.NANOSECONDS, Bulkhead::getMaxWaitNanos)
+                .tag("class", trafficClass)
+                .register(registry);
+        Gauge.builder("warcry.bulkhead.active", bulkhead, Bulkhead::getActiveCount)
+                .tag("class", trafficClass)
+                .register(registry);
+        Gauge.builder("warcry.bulkhead.queue", bulkhead, Bulkhead::getQueueLength)
+                .tag("class", trafficClass)
+                .register(registry);
+        Gauge.builder("warcry.bulkhead.max.concurrent", bulkhead, Bulkhead::getMaxConcurrent)
+                .tag("class", trafficClass)
+                .register(registry);
+        FunctionCounter.builder("warcry.bulkhead.rejected", bulkhead, Bulkhead::getRejectedCount)
+                .tag("class", trafficClass)
+                .register(registry);
+    }
+
+    // 리전별 hit/miss/put/eviction (JCache 통계 MXBean)
+    private static void bindSecondLevelCache(MeterRegistry registry, CacheManager manager) {
+        for (String region : manager.getCacheNames()) {
+            JCacheMetrics.monitor(registry, manager.getCache(region), "layer", "hibernate-l2");
+        }
+    }
+
+    private static void bindInvalidationPublisher(MeterRegistry registry, CacheInvalidationPublisher publisher) {
+        FunctionCounter.builder("warcry.cache.invalidation.sent", publisher, CacheInvalidationPublisher::getNotificationCount)
+                .tag("unit", "notification")
+                .register(registry);
+        FunctionCounter.builder("warcry.cache.invalidation.sent", publisher, CacheInvalidationPublisher::getMessageCount)
+                .tag("unit", "message")
+                .register(registry);
+    }
+
+    private static void bindInvalidationListener(MeterRegistry registry, CacheInvalidationListener listener) {
+        FunctionCounter.builder("warcry.cache.invalidation.received", listener, CacheInvalidationListener::getReceivedCount)
+                .tag("origin", "remote")
+                .register(registry);
+        FunctionCounter.builder("warcry.cache.invalidation.received", listener, CacheInvalidationListener::getIgnoredCount)
+                .tag("origin", "self")
+                .register(registry);
+        FunctionCounter.builder("warcry.cache.invalidation.failed", listener, CacheInvalidationListener::getFailedCount)
+                .register(registry);
+        FunctionCounter.builder("warcry.cache.invalidation.reconnects", listener, CacheInvalidationListener::getReconnectCount)
+                .register(registry);
+        Gauge.builder("warcry.cache.invalidation.listening", listener, l -> l.isListening() ? 1 : 0)
+                .register(registry);
+    }
+}
@@ -4,13 +4,16 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "daily_stats",
         uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "date"}))
+@NamedEntityGraph(name = "DailyStats.withUser", attributeNodes = @NamedAttributeNode("user"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,11 +21,14 @@ import java.time.LocalDate;
 public class DailyStats {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_stats_seq")
+    @SequenceGenerator(name = "daily_stats_seq", sequenceName = "daily_stats_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     @Column(nullable = false)
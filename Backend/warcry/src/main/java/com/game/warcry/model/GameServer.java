@@ -2,17 +2,22 @@ package com.game.warcry.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "game_servers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "game-server")
 @Getter @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
 public class GameServer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_servers_seq")
+    @SequenceGenerator(name = "game_servers_seq", sequenceName = "game_servers_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
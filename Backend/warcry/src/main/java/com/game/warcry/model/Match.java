@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class Match {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matches_seq")
+    @SequenceGenerator(name = "matches_seq", sequenceName = "matches_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -37,14 +38,32 @@ public class Match {
 
     private Integer hostPort;
 
-    @Transient
-    public MatchStatus getStatus() {
+    // 로비 조회용 상태 컬럼 (startTime/endTime 에서 파생, 저장 시점에 항상 동기화)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MatchStatus status;
+
+    // 매치 시작 (두 번째 참가자가 들어와 인원이 찼을 때)
+    public void start() {
+        this.startTime = LocalDateTime.now();
+        this.status = MatchStatus.PLAYING;
+    }
+
+    // 매치 종료 (결과 저장 시)
+    public void end() {
+        this.endTime = LocalDateTime.now();
+        this.status = MatchStatus.ENDED;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncStatus() {
         if (endTime != null) {
-            return MatchStatus.ENDED;
+            status = MatchStatus.ENDED;
         } else if (startTime != null) {
-            return MatchStatus.PLAYING;
+            status = MatchStatus.PLAYING;
         } else {
-            return MatchStatus.WAITING;
+            status = MatchStatus.WAITING;
         }
     }
 
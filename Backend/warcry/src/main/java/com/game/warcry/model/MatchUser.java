@@ -10,7 +10,8 @@ import lombok.*;
 public class MatchUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_users_seq")
+    @SequenceGenerator(name = "match_users_seq", sequenceName = "match_users_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,50 @@
+package com.game.warcry.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 저장소. 토큰 원문은 저장하지 않고 SHA-256 다이제스트만 보관합니다.
+ * 같은 로그인에서 회전(rotation)으로 이어진 토큰들은 동일한 familyId를 가지며,
+ * 이미 사용된 토큰이 다시 제시되면 family 전체를 폐기합니다.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+        indexes = {
+                @Index(name = "ux_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "ix_refresh_tokens_family_id", columnList = "family_id")
+        })
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "token_hash", nullable = false, length = 43)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 회전되어 더 이상 사용할 수 없게 된 시각 (null이면 아직 사용 전)
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(nullable = false)
+    private Boolean revoked;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
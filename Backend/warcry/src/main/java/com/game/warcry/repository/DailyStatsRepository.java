@@ -2,6 +2,7 @@ package com.game.warcry.repository;
 
 import com.game.warcry.model.DailyStats;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -15,6 +16,8 @@ public interface DailyStatsRepository extends JpaRepository<DailyStats, Long> {
 
     List<DailyStats> findByUserIdAndDateBetweenOrderByDateAsc(Long userId, LocalDate startDate, LocalDate endDate);
 
+    // 일일 최고 포인트 플레이어 (닉네임 포함)
+    @EntityGraph("DailyStats.withUser")
     List<DailyStats> findByDateOrderByHighestPointDesc(LocalDate date, Pageable pageable);
 
     Optional<DailyStats> findByUserIdAndDate(Long userId, LocalDate date);
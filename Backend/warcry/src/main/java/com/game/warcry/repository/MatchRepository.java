@@ -1,6 +1,8 @@
 package com.game.warcry.repository;
 
+import com.game.warcry.dto.match.MatchDetailView;
 import com.game.warcry.model.Match;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,14 +14,65 @@ import java.util.Optional;
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
 
-    @Query("SELECT m FROM Match m WHERE (:isPrivate IS NULL OR m.isPrivate = :isPrivate) AND " +
-            "(:status = 'WAITING' AND m.startTime IS NULL OR " +
-            ":status = 'PLAYING' AND m.startTime IS NOT NULL AND m.endTime IS NULL OR " +
-            ":status = 'ENDED' AND m.endTime IS NOT NULL OR " +
-            ":status IS NULL)")
-    List<Match> findMatchesByFilters(@Param("isPrivate") Boolean isPrivate,
-                                     @Param("status") String status,
-                                     @Param("limit") Integer limit);
+    // 매치 종류 조건 (Match.isListenServer() 와 같은 기준: hostIp 와 hostPort 가 모두 있으면 Listen 서버)
+    String DEDICATED = "(m.hostIp IS NULL OR m.hostPort IS NULL)";
+    String LISTEN = "m.hostIp IS NOT NULL AND m.hostPort IS NOT NULL";
+    String WAITING = "m.status = com.game.warcry.model.Match.MatchStatus.WAITING";
+
+    // 로비 목록은 모두 오래된 매치부터 (ORDER BY m.id), 선택 필터마다 쿼리를 나눠 NULL 분기 없이 인덱스를 타도록 함
+
+    // 대기 중 (부분 인덱스 ix_matches_lobby_dedicated / ix_matches_lobby_listen)
+    @Query("SELECT m FROM Match m WHERE " + WAITING + " AND " + DEDICATED + " ORDER BY m.id")
+    List<Match> findWaitingDedicated(Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE " + WAITING + " AND " + DEDICATED + " AND m.isPrivate = :isPrivate ORDER BY m.id")
+    List<Match> findWaitingDedicatedByPrivacy(@Param("isPrivate") boolean isPrivate, Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE " + WAITING + " AND " + LISTEN + " ORDER BY m.id")
+    List<Match> findWaitingListen(Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE " + WAITING + " AND " + LISTEN + " AND m.isPrivate = :isPrivate ORDER BY m.id")
+    List<Match> findWaitingListenByPrivacy(@Param("isPrivate") boolean isPrivate, Limit limit);
+
+    // 그 외 상태 (ix_matches_status)
+    @Query("SELECT m FROM Match m WHERE m.status = :status AND " + DEDICATED + " ORDER BY m.id")
+    List<Match> findDedicatedByStatus(@Param("status") Match.MatchStatus status, Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE m.status = :status AND " + DEDICATED + " AND m.isPrivate = :isPrivate ORDER BY m.id")
+    List<Match> findDedicatedByStatusAndPrivacy(@Param("status") Match.MatchStatus status,
+                                                @Param("isPrivate") boolean isPrivate, Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE m.status = :status AND " + LISTEN + " ORDER BY m.id")
+    List<Match> findListenByStatus(@Param("status") Match.MatchStatus status, Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE m.status = :status AND " + LISTEN + " AND m.isPrivate = :isPrivate ORDER BY m.id")
+    List<Match> findListenByStatusAndPrivacy(@Param("status") Match.MatchStatus status,
+                                             @Param("isPrivate") boolean isPrivate, Limit limit);
+
+    // 상태 필터 없음 (전체, 기본 키 순서)
+    @Query("SELECT m FROM Match m WHERE " + DEDICATED + " ORDER BY m.id")
+    List<Match> findDedicated(Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE " + DEDICATED + " AND m.isPrivate = :isPrivate ORDER BY m.id")
+    List<Match> findDedicatedByPrivacy(@Param("isPrivate") boolean isPrivate, Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE " + LISTEN + " ORDER BY m.id")
+    List<Match> findListen(Limit limit);
+
+    @Query("SELECT m FROM Match m WHERE " + LISTEN + " AND m.isPrivate = :isPrivate ORDER BY m.id")
+    List<Match> findListenByPrivacy(@Param("isPrivate") boolean isPrivate, Limit limit);
+
+    // 매치 상세: 게임 서버와 호스트/게스트 닉네임까지 한 번에 조회
+    @Query("SELECT new com.game.warcry.dto.match.MatchDetailView(" +
+            "m.id, m.title, m.isPrivate, m.status, gs.serverIp, gs.serverPort, m.hostIp, m.hostPort, " +
+            "hostUser.nickname, guestUser.nickname) " +
+            "FROM Match m LEFT JOIN m.gameServer gs " +
+            "LEFT JOIN MatchUser host ON host.match = m AND host.role = com.game.warcry.model.MatchUser.UserRole.HOST " +
+            "LEFT JOIN host.user hostUser " +
+            "LEFT JOIN MatchUser guest ON guest.match = m AND guest.role = com.game.warcry.model.MatchUser.UserRole.GUEST " +
+            "LEFT JOIN guest.user guestUser " +
+            "WHERE m.id = :matchId")
+    Optional<MatchDetailView> findDetailById(@Param("matchId") Long matchId);
 
     // Listen Server에서 사용할 메서드: 동일한 IP와 Port 조합을 가진 매치 찾기
     Optional<Match> findByHostIpAndHostPort(String hostIp, Integer hostPort);
@@ -4,9 +4,13 @@ import com.game.warcry.model.Match;
 import com.game.warcry.model.MatchUser;
 import com.game.warcry.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -25,4 +29,21 @@ public interface MatchUserRepository extends JpaRepository<MatchUser, Long> {
     int countByMatch(Match match);
 
     Optional<MatchUser> findByMatchAndUserNot(Match match, User user);
-}
\ No newline at end of file
+
+    // 여러 매치의 특정 역할 참가자를 유저와 함께 한 번에 조회 (로비 목록 N+1 방지)
+    @Query("SELECT mu FROM MatchUser mu JOIN FETCH mu.user WHERE mu.match IN :matches AND mu.role = :role")
+    List<MatchUser> findWithUserByMatchInAndRole(@Param("matches") List<Match> matches,
+                                                 @Param("role") MatchUser.UserRole role);
+
+    // 매치 ID → 호스트 닉네임
+    default Map<Long, String> findHostNicknames(List<Match> matches) {
+        Map<Long, String> nicknames = new HashMap<>();
+        if (matches.isEmpty()) {
+            return nicknames;
+        }
+        for (MatchUser host : findWithUserByMatchInAndRole(matches, MatchUser.UserRole.HOST)) {
+            nicknames.put(host.getMatch().getId(), host.getUser().getNickname());
+        }
+        return nicknames;
+    }
+}
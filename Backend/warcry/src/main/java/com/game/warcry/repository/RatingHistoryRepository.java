@@ -1,8 +1,11 @@
 package com.game.warcry.repository;
 
+import com.game.warcry.dto.rank.MatchHistoryDTO;
 import com.game.warcry.model.RatingHistory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,15 @@ public interface RatingHistoryRepository extends JpaRepository<RatingHistory, Lo
     List<RatingHistory> findByUserIdOrderByChangeTimeDesc(Long userId, Pageable pageable);
 
     long countByUserId(Long userId);
+
+    // 전적 페이지: 매치와 상대방 닉네임까지 한 번의 쿼리로 조회
+    @Query("SELECT new com.game.warcry.dto.rank.MatchHistoryDTO(" +
+            "m.id, rh.changeTime, CASE WHEN rh.winner = true THEN 'WIN' ELSE 'LOSE' END, " +
+            "rh.pointBefore, rh.pointAfter, rh.pointChange, rh.tierBefore, rh.tierAfter, " +
+            "opponent.id, opponent.nickname) " +
+            "FROM RatingHistory rh JOIN rh.match m " +
+            "LEFT JOIN MatchUser mu ON mu.match = m AND mu.user.id <> :userId " +
+            "LEFT JOIN mu.user opponent " +
+            "WHERE rh.user.id = :userId ORDER BY rh.changeTime DESC")
+    List<MatchHistoryDTO> findHistoryPage(@Param("userId") Long userId, Pageable pageable);
 }
\ No newline at end of file
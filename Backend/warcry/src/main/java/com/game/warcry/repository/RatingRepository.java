@@ -2,6 +2,7 @@ package com.game.warcry.repository;
 
 import com.game.warcry.model.Rating;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -14,8 +15,11 @@ public interface RatingRepository extends JpaRepository<Rating, Long> {
 
     Optional<Rating> findByUserId(Long userId);
 
+    // 리더보드: 닉네임이 필요하므로 유저를 함께 조회 (엔티티 그래프 Rating.withUser)
+    @EntityGraph("Rating.withUser")
     List<Rating> findByTierOrderByPointDesc(Integer tier, Pageable pageable);
 
+    @EntityGraph("Rating.withUser")
     List<Rating> findAllByOrderByPointDesc(Pageable pageable);
 
     long countByTier(Integer tier);
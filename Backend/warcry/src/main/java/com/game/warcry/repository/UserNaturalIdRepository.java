@@ -0,0 +1,14 @@
+package com.game.warcry.repository;
+
+import com.game.warcry.model.User;
+
+import java.util.Optional;
+
+/**
+ * username(natural id) 조회 프래그먼트. 파생 쿼리 대신 Hibernate natural-id 로딩을 사용해
+ * 2차 캐시에 있으면 SQL 없이 해석합니다.
+ */
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByUsername(String username);
+}
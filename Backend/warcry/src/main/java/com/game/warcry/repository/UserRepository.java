@@ -1,11 +1,22 @@
 package com.game.warcry.repository;
 
 import com.game.warcry.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
+
+    // 가입 시 중복 확인 (Bloom 필터 통과분만)
+    // 쿼리 캐시에 넣지 않음: 읽기 전용 트랜잭션은 복제본으로 가므로, 복제 지연 중의 "없음"이 캐시되면 TTL 동안 남음
     boolean existsByUsername(String username);
-    Optional<User> findByUsername(String username);
+
+    // username Bloom 필터 초기 로딩용 (트랜잭션 안에서 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT u.username FROM User u")
+    Stream<String> streamAllUsernames();
 }
@@ -0,0 +1,16 @@
+package com.game.warcry.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * JWT 클레임에서 복원한 인증 사용자 정보.
+ * 컨트롤러에서 {@code @AuthenticationPrincipal AuthUser}로 받아 userId를 바로 사용할 수 있어
+ * 매 요청마다 username으로 users 테이블을 조회하지 않아도 됩니다.
+ */
+public record AuthUser(Long userId, String username, String nickname) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,34 @@
+package com.game.warcry.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+
+/**
+ * 검증된 JWT로부터 생성되는 인증 토큰. principal은 {@link AuthUser} 입니다.
+ */
+public class AuthUserAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final AuthUser principal;
+    private final Jwt jwt;
+
+    public AuthUserAuthenticationToken(AuthUser principal, Jwt jwt,
+                                       Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.principal = principal;
+        this.jwt = jwt;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public AuthUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Jwt getCredentials() {
+        return jwt;
+    }
+}
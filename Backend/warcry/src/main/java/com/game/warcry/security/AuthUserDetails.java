@@ -0,0 +1,24 @@
+package com.game.warcry.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 로그인 인증 시 사용하는 UserDetails. 토큰에 넣을 userId와 닉네임을 함께 전달합니다.
+ */
+@Getter
+public class AuthUserDetails extends User {
+
+    private final Long userId;
+    private final String nickname;
+
+    public AuthUserDetails(Long userId, String username, String password, String nickname,
+                           Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+}
@@ -0,0 +1,11 @@
+package com.game.warcry.security;
+
+/**
+ * 존재하지 않거나 만료·폐기·재사용된 리프레시 토큰이 제시된 경우 발생합니다. (HTTP 401)
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
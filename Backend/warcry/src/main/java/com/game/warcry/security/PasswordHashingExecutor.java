@@ -0,0 +1,148 @@
+package com.game.warcry.security;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt 해싱 전용 스레드 풀. CPU 코어 수만큼의 스레드와 제한된 대기열을 가집니다.
+ * PasswordEncoder 는 동기 API 라 호출한 Tomcat 워커는 해싱이 끝날 때까지 기다리므로,
+ * 대기열에 쌓인 작업 수와 평균 해싱 시간으로 예상 대기 시간을 계산해 max-queue-wait 을 넘으면
+ * 제출하지 않고 즉시 {@link PasswordHashingRejectedException}을 던집니다.
+ * 워커가 묶이는 시간은 대략 max-queue-wait + 해싱 1회이며, timeout 은 예상이 빗나갔을 때의 상한입니다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final Logger log = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Duration maxQueueWait;
+    private final Duration timeout;
+    private final Duration retryAfter;
+
+    // 해싱 지연 시간 / 거절 통계
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Long::max, 0L);
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public PasswordHashingExecutor(@Value("${security.password-hashing.pool-size:0}") int poolSize,
+                                   @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password-hashing.max-queue-wait:200ms}") Duration maxQueueWait,
+                                   @Value("${security.password-hashing.timeout:1s}") Duration timeout,
+                                   @Value("${security.password-hashing.retry-after:2s}") Duration retryAfter) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxQueueWait = maxQueueWait;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+    }
+
+    public <T> T execute(Callable<T> task) {
+        // 앞에 쌓인 작업을 기다리는 시간이 상한을 넘으면 워커를 묶어 두지 않고 바로 거절
+        if (estimateQueueWaitNanos() > maxQueueWait.toNanos()) {
+            rejectedCount.increment();
+            log.debug("비밀번호 해싱 예상 대기 시간 초과로 거절합니다. queueDepth: {}", getQueueDepth());
+            throw new PasswordHashingRejectedException(retryAfter);
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    hashCount.increment();
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulate(elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("비밀번호 해싱 대기열이 가득 찼습니다. queueDepth: {}", getQueueDepth());
+            throw new PasswordHashingRejectedException(retryAfter);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new PasswordHashingRejectedException(retryAfter);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("비밀번호 해싱 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    // 예상 대기 시간 = 대기열 길이 × 평균 해싱 시간 / 스레드 수 (측정값이 없으면 0)
+    long estimateQueueWaitNanos() {
+        long count = hashCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+        long averageNanos = hashNanos.sum() / count;
+        return getQueueDepth() * averageNanos / executor.getMaximumPoolSize();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long getHashCount() {
+        return hashCount.sum();
+    }
+
+    public long getTotalHashNanos() {
+        return hashNanos.sum();
+    }
+
+    public long getMaxHashNanos() {
+        return maxHashNanos.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,19 @@
+package com.game.warcry.security;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 풀이 포화 상태라 요청을 처리하지 않고 거절할 때 발생합니다. (HTTP 429)
+ */
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingRejectedException(Duration retryAfter) {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.");
+        this.retryAfter = retryAfter;
+    }
+}
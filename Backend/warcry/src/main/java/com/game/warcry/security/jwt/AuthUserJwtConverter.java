@@ -0,0 +1,56 @@
+package com.game.warcry.security.jwt;
+
+import com.game.warcry.model.User;
+import com.game.warcry.repository.UserRepository;
+import com.game.warcry.security.AuthUser;
+import com.game.warcry.security.AuthUserAuthenticationToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검증된 JWT를 {@link AuthUser} principal을 가진 인증 객체로 변환합니다.
+ * security.admin-user-ids 에 있는 유저에게만 ROLE_ADMIN 을 부여합니다 (관리 엔드포인트 접근용, 기본값은 없음).
+ */
+@Component
+public class AuthUserJwtConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private final UserRepository userRepository;
+    private final Set<Long> adminUserIds;
+
+    public AuthUserJwtConverter(UserRepository userRepository,
+                                @Value("${security.admin-user-ids:}") Set<Long> adminUserIds) {
+        this.userRepository = userRepository;
+        this.adminUserIds = Set.copyOf(adminUserIds);
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        String username = jwt.getSubject();
+        Number userId = jwt.getClaim(JWTUtil.CLAIM_USER_ID);
+        String nickname = jwt.getClaimAsString(JWTUtil.CLAIM_NICKNAME);
+
+        AuthUser authUser;
+        if (userId != null) {
+            authUser = new AuthUser(userId.longValue(), username, nickname);
+        } else {
+            // userId 클레임이 없는 이전 형식의 토큰: 만료될 때까지만 DB에서 보완
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new InvalidBearerTokenException("유효하지 않은 사용자입니다."));
+            authUser = new AuthUser(user.getId(), user.getUsername(), user.getNickname());
+        }
+
+        return new AuthUserAuthenticationToken(authUser, jwt,
+                adminUserIds.contains(authUser.userId()) ? ADMIN_AUTHORITIES : List.of());
+    }
+}
@@ -0,0 +1,96 @@
+package com.game.warcry.security.jwt;
+
+import com.game.warcry.security.TokenDigests;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 JWT를 토큰의 SHA-256 다이제스트 기준으로 캐싱하는 JwtDecoder.
+ * 로비 폴링처럼 같은 토큰이 반복해서 들어오는 경우 파싱과 HMAC 검증을 한 번만 수행합니다.
+ * 캐시 항목은 토큰 자체의 exp 시각에 만료되며, 검증에 실패한 토큰은 캐싱하지 않습니다.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize) {
+        this(delegate, maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    // clock: 토큰 exp 까지 남은 시간 계산, ticker: 캐시 항목 경과 시간 (테스트에서 시간을 직접 진행)
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String digest = TokenDigests.sha256(token);
+        Jwt cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 검증 실패 시 JwtException이 그대로 전파되어 캐시에 들어가지 않음
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            cache.put(digest, jwt);
+        }
+        return jwt;
+    }
+
+    // 캐시 통계 (히트/미스 수, 히트율)
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // 토큰의 exp 시각까지만 캐시에 유지
+    private static class TokenExpiry implements Expiry<String, Jwt> {
+
+        private final Clock clock;
+
+        TokenExpiry(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(clock), jwt.getExpiresAt());
+            return Math.max(0L, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,35 +0,0 @@
-package com.game.warcry.security.jwt;
-
-import jakarta.servlet.*;
-import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-
-import java.io.IOException;
-import java.util.Collections;
-
-public class JWTFilter implements Filter {
-
-    private final JWTUtil jwtUtil;
-
-    public JWTFilter(JWTUtil jwtUtil) { this.jwtUtil = jwtUtil; }
-
-    @Override
-    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
-            throws IOException, ServletException {
-
-        HttpServletRequest request = (HttpServletRequest) req;
-        String header = request.getHeader("Authorization");
-
-        if (header != null && header.startsWith("Bearer ")) {
-            String token = header.substring(7);
-            try {
-                String username = jwtUtil.extractUsername(token);
-                var auth = new UsernamePasswordAuthenticationToken(
-                        username, null, Collections.emptyList());
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            } catch (Exception ignore) { }
-        }
-        chain.doFilter(req, res);
-    }
-}
@@ -1,12 +1,17 @@
 package com.game.warcry.security.jwt;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
@@ -16,33 +21,58 @@ public class JWTUtil {
     @Value("${jwt.secret:change-this-secret-string-to-32bytes-min}")
     private String secret;
 
+    @Value("${jwt.expiration.access:3600000}")
+    private long expirationMillis; // 기본 1h (밀리초 단위)
+
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long cacheMaximumSize;
+
+    // 토큰에 포함되는 커스텀 클레임
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_NICKNAME = "nickname";
+
     private SecretKey key;
-    private static final long EXP_MILLISECONDS = 1000L * 60 * 60; // 1h (밀리초 단위)
+    private CachingJwtDecoder jwtDecoder;
 
     @PostConstruct
     private void init() {
-        key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        key = Keys.hmacShaKeyFor(secretBytes);
+
+        // 리소스 서버와 extractUsername이 같은 검증 캐시를 공유
+        NimbusJwtDecoder nimbusDecoder = NimbusJwtDecoder
+                .withSecretKey(new SecretKeySpec(secretBytes, "HmacSHA256"))
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        jwtDecoder = new CachingJwtDecoder(nimbusDecoder, cacheMaximumSize);
     }
 
-    public String generate(String username) {
+    public String generate(Long userId, String username, String nickname) {
         return Jwts.builder()
                 .subject(username)
-                .expiration(new Date(System.currentTimeMillis() + EXP_MILLISECONDS))
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_NICKNAME, nickname)
+                .expiration(new Date(System.currentTimeMillis() + expirationMillis))
                 .signWith(key, Jwts.SIG.HS256) // HS512에서 HS256으로 변경
                 .compact();
     }
 
     public String extractUsername(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+        return jwtDecoder.decode(token).getSubject();
+    }
+
+    // Spring Security 리소스 서버에 등록할 (캐시가 적용된) 디코더
+    public JwtDecoder getJwtDecoder() {
+        return jwtDecoder;
+    }
+
+    // 토큰 검증 캐시 히트/미스 통계
+    public CacheStats getVerificationCacheStats() {
+        return jwtDecoder.stats();
     }
 
-    // 토큰 만료 시간(초 단위) 반환 메소드 (선택 사항)
+    // 토큰 만료 시간(초 단위) 반환 메소드
     public long getExpirationTimeInSeconds() {
-        return EXP_MILLISECONDS / 1000;
+        return expirationMillis / 1000;
     }
-}
\ No newline at end of file
+}
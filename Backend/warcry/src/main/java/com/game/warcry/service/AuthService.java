@@ -2,13 +2,20 @@ package com.game.warcry.service;
 
 import com.game.warcry.dto.LoginRequest;
 import com.game.warcry.dto.LoginResponse;
+import com.game.warcry.dto.RefreshRequest;
 import com.game.warcry.dto.SignupRequest;
 import com.game.warcry.dto.SignupResponse;
 import com.game.warcry.dto.UserInfoResponse;
+import com.game.warcry.security.AuthUser;
 
 public interface AuthService {
     SignupResponse signup(SignupRequest req);
     LoginResponse login(LoginRequest req);
+
+    /**
+     * 리프레시 토큰을 회전시키고 새 액세스/리프레시 토큰을 발급합니다. (BCrypt 검증 없음)
+     */
+    LoginResponse refresh(RefreshRequest req);
     /**
      * @param username 체크할 사용자명
      * @return 이미 존재하면 true, 아니면 false
@@ -20,4 +27,10 @@ public interface AuthService {
      * @return 해당 사용자의 public 정보 (username, nickname)
      */
     UserInfoResponse getUserInfo(String username);
+
+    /**
+     * @param authUser 토큰 클레임에서 복원한 인증 사용자
+     * @return 해당 사용자의 public 정보 (username, nickname)
+     */
+    UserInfoResponse getUserInfo(AuthUser authUser);
 }
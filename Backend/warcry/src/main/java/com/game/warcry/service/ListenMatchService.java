@@ -14,16 +14,16 @@ import com.game.warcry.dto.listen.ListenMatchResultResponse;
 
 public interface ListenMatchService {
     // 매치 생성
-    ListenMatchCreateResponse createMatch(String username, ListenMatchCreateRequest request);
+    ListenMatchCreateResponse createMatch(Long userId, ListenMatchCreateRequest request);
     // ListenMatchService.java에 추가
     ListenMatchListResponse getMatches(Boolean isPrivate, String status, Integer limit);
     // ListenMatchService.java에 추가
     ListenMatchDetailResponse getMatchDetail(Long matchId);
     // ListenMatchService.java에 추가
-    ListenMatchJoinResponse joinMatch(Long matchId, String username, ListenMatchJoinRequest request);
+    ListenMatchJoinResponse joinMatch(Long matchId, Long userId, ListenMatchJoinRequest request);
     // ListenMatchService.java에 추가
-    ListenMatchLeaveResponse leaveMatch(Long matchId, String username);
-    ListenMatchHostLeaveResponse hostLeaveMatch(Long matchId, String username);
+    ListenMatchLeaveResponse leaveMatch(Long matchId, Long userId);
+    ListenMatchHostLeaveResponse hostLeaveMatch(Long matchId, Long userId);
     // ListenMatchService.java에 추가
-    ListenMatchResultResponse saveMatchResult(Long matchId, String username, ListenMatchResultRequest request);
+    ListenMatchResultResponse saveMatchResult(Long matchId, Long userId, ListenMatchResultRequest request);
 }
\ No newline at end of file
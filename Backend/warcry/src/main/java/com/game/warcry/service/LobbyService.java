@@ -0,0 +1,20 @@
+package com.game.warcry.service;
+
+import com.game.warcry.model.Match;
+
+import java.util.List;
+
+// 전용 서버 / Listen 서버 로비가 함께 쓰는 매치 목록 조회
+public interface LobbyService {
+
+    // 매치 종류별 목록 (호스트 닉네임 포함), 다른 종류의 매치는 읽지 않음
+    // 오래된 매치부터(id 오름차순) 최대 limit 개 (기본 10, 최대 100)
+    List<Entry> getLobby(Kind kind, Boolean isPrivate, String status, Integer limit);
+
+    enum Kind {
+        DEDICATED, LISTEN
+    }
+
+    record Entry(Match match, String hostNickname) {
+    }
+}
@@ -11,17 +11,17 @@ public interface MatchService {
     MatchDetailResponse getMatchDetail(Long matchId);
 
     // 매치 생성
-    MatchCreateResponse createMatch(String username, MatchCreateRequest request);
+    MatchCreateResponse createMatch(Long userId, MatchCreateRequest request);
 
     // 매치 참가
-    MatchJoinResponse joinMatch(Long matchId, String username, MatchJoinRequest request);
+    MatchJoinResponse joinMatch(Long matchId, Long userId, MatchJoinRequest request);
 
     // 게임 결과 저장
-    MatchResultResponse saveMatchResult(Long matchId, String username, MatchResultRequest request);
+    MatchResultResponse saveMatchResult(Long matchId, Long userId, MatchResultRequest request);
 
     // 매치 나가기 (GUEST)
-    MatchLeaveResponse leaveMatch(Long matchId, String username);
+    MatchLeaveResponse leaveMatch(Long matchId, Long userId);
 
     // 매치 나가기 (HOST)
-    MatchHostLeaveResponse hostLeaveMatch(Long matchId, String username);
+    MatchHostLeaveResponse hostLeaveMatch(Long matchId, Long userId);
 }
\ No newline at end of file
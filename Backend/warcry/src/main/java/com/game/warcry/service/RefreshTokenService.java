@@ -0,0 +1,18 @@
+package com.game.warcry.service;
+
+public interface RefreshTokenService {
+
+    // 로그인 시 새 토큰 family 발급, 토큰 원문 반환
+    String issue(Long userId);
+
+    // 리프레시 토큰 회전: 제시된 토큰을 사용 처리하고 같은 family의 새 토큰 발급
+    // 이미 회전된 토큰이 재사용 유예 시간(jwt.refresh-reuse-grace) 안에 다시 오면 (클라이언트 재시도/중복 전송)
+    // 폐기 없이 실패하고 첫 요청이 받은 토큰은 계속 유효, 유예 시간 뒤에 오면 탈취로 보고 family 전체 폐기
+    Rotation rotate(String rawToken);
+
+    // 리프레시 토큰 만료 시간 (초 단위)
+    long getExpirationTimeInSeconds();
+
+    record Rotation(Long userId, String refreshToken) {
+    }
+}
@@ -1,16 +1,28 @@
 package com.game.warcry.service.impl;
 
+import com.game.warcry.cache.CacheInvalidation;
+import com.game.warcry.cache.CacheInvalidationDispatcher;
+import com.game.warcry.cache.UserCache;
+import com.game.warcry.cache.UsernameBloomFilter;
+import com.game.warcry.datasource.ReadYourWritesTracker;
 import com.game.warcry.dto.LoginRequest;
 import com.game.warcry.dto.LoginResponse;
+import com.game.warcry.dto.RefreshRequest;
 import com.game.warcry.dto.SignupRequest;
 import com.game.warcry.dto.SignupResponse;
 import com.game.warcry.model.User;
 import com.game.warcry.repository.UserRepository;
+import com.game.warcry.security.AuthUser;
+import com.game.warcry.security.AuthUserDetails;
+import com.game.warcry.security.InvalidRefreshTokenException;
 import com.game.warcry.security.jwt.JWTUtil; // JWTUtil 주입
 import com.game.warcry.service.AuthService;
 import com.game.warcry.service.RankService;
+import com.game.warcry.service.RefreshTokenService;
 //import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,6 +31,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import com.game.warcry.dto.UserInfoResponse;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -29,28 +42,54 @@ public class AuthServiceImpl implements AuthService {
     private final JWTUtil jwtUtil; // JWT 생성 유틸리티
     private final AuthenticationManager authenticationManager; // Spring Security 인증 관리자
     private final RankService rankService; // 랭크 서비스 추가
+    private final UserCache userCache;
+    private final RefreshTokenService refreshTokenService;
+    private final UsernameBloomFilter usernameBloomFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker; // 레플리카 사용 시에만 존재
+    private final CacheInvalidationDispatcher cacheInvalidation;
 
     @Override
-    @Transactional
     public SignupResponse signup(SignupRequest req) {
-        if (userRepository.existsByUsername(req.username())) {
+        if (existsByUsername(req.username())) {
             throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
         }
 
-        User saved = userRepository.save(
-                User.builder()
-                        .username(req.username())
-                        .password(passwordEncoder.encode(req.password()))
-                        .nickname(req.nickname())
-                        .build());
+        // BCrypt 해싱은 트랜잭션을 열기 전에 (해싱하는 동안 커넥션을 잡고 있지 않도록)
+        String encodedPassword = passwordEncoder.encode(req.password());
 
-        // 레이팅 정보 초기화
-        rankService.initializeUserRating(saved.getId());
+        User saved = transactionTemplate.execute(status -> saveUser(req, encodedPassword));
 
         return new SignupResponse(saved.getId(), saved.getUsername(),
                 saved.getNickname(), saved.getCreatedAt());
     }
 
+    // 유저 저장 + 레이팅 초기화 (하나의 트랜잭션)
+    private User saveUser(SignupRequest req, String encodedPassword) {
+        User saved;
+        try {
+            // 시퀀스 ID라 INSERT가 커밋까지 미뤄지므로, unique 위반을 여기서 받기 위해 즉시 flush
+            saved = userRepository.saveAndFlush(
+                    User.builder()
+                            .username(req.username())
+                            .password(encodedPassword)
+                            .nickname(req.nickname())
+                            .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동시 가입 또는 다른 인스턴스에서 가입된 username (unique 제약)
+            throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
+        }
+        userCache.evict(saved);
+        usernameBloomFilter.put(saved.getUsername());
+        // 다른 인스턴스의 유저/쿼리 캐시 무효화 + Bloom 필터에 username 추가 (전달 전 동시 가입은 unique 제약이 막음)
+        cacheInvalidation.invalidate(CacheInvalidation.user(saved.getId()));
+        cacheInvalidation.invalidate(CacheInvalidation.username(saved.getUsername()));
+
+        // 레이팅 정보 초기화
+        rankService.initializeUserRating(saved.getId());
+        return saved;
+    }
+
     @Override
     public LoginResponse login(LoginRequest req) {
         // 1. 사용자 인증 시도
@@ -58,27 +97,62 @@ public class AuthServiceImpl implements AuthService {
                 new UsernamePasswordAuthenticationToken(req.username(), req.password())
         );
 
-        // 2. 인증 성공 시 JWT 생성
-        String username = authentication.getName(); // 인증된 사용자 이름 가져오기
-        String token = jwtUtil.generate(username);
+        // 2. 인증 성공 시 JWT 생성 (userId, nickname 클레임 포함)
+        AuthUserDetails principal = (AuthUserDetails) authentication.getPrincipal();
+        String token = jwtUtil.generate(principal.getUserId(), principal.getUsername(), principal.getNickname());
+
+        // 3. 리프레시 토큰 발급 (새 family)
+        String refreshToken = refreshTokenService.issue(principal.getUserId());
+
+        // 가입 직후 로그인한 유저의 다음 조회가 아직 복제되지 않은 레플리카로 가지 않도록 기록
+        readYourWritesTracker.ifAvailable(tracker -> tracker.recordWrite(principal.getUserId()));
 
-        // 3. LoginResponse 반환
-        // JWTUtil에 EXP 상수가 있으므로 이를 활용하거나, 설정에서 가져올 수 있습니다.
-        // 예시로 1시간(3600초)을 사용합니다. 실제로는 JWTUtil의 EXP 값을 사용하세요.
-        long expiresIn = 2592000; // jwtUtil.getExpirationTimeInSeconds(); 와 같이 가져올 수 있도록 JWTUtil 수정 고려
-        return new LoginResponse(token, "Bearer", expiresIn);
+        // 4. LoginResponse 반환
+        return new LoginResponse(token, "Bearer", jwtUtil.getExpirationTimeInSeconds(),
+                refreshToken, refreshTokenService.getExpirationTimeInSeconds());
+    }
+
+    @Override
+    public LoginResponse refresh(RefreshRequest req) {
+        // 1. 리프레시 토큰 회전 (인덱스 조회 1회, 재사용 시 family 폐기)
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(req.refreshToken());
+
+        // 2. 토큰 클레임용 사용자 정보 (캐시)
+        UserCache.CachedUser user = userCache.findById(rotation.userId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 사용자입니다."));
+
+        // 3. 새 액세스 토큰 발급
+        String token = jwtUtil.generate(user.id(), user.username(), user.nickname());
+        return new LoginResponse(token, "Bearer", jwtUtil.getExpirationTimeInSeconds(),
+                rotation.refreshToken(), refreshTokenService.getExpirationTimeInSeconds());
     }
 
     @Override
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        // Bloom 필터에 없으면 확실히 사용 가능 → DB 조회 생략
+        if (!usernameBloomFilter.mightContain(username)) {
+            return false;
+        }
+        // 있을 수 있는 경우만 인덱스 조회로 확인
+        boolean exists = userRepository.existsByUsername(username);
+        usernameBloomFilter.recordConfirmation(exists);
+        return exists;
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserInfoResponse getUserInfo(String username) {
-        User user = userRepository.findByUsername(username)
+        UserCache.CachedUser user = userCache.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("유효하지 않은 사용자입니다."));
-        return new UserInfoResponse(user.getUsername(), user.getNickname());
+        return new UserInfoResponse(user.username(), user.nickname());
+    }
+
+    @Override
+    public UserInfoResponse getUserInfo(AuthUser authUser) {
+        // 토큰 클레임에 닉네임이 있으면 DB 조회 없이 응답
+        if (authUser.nickname() != null) {
+            return new UserInfoResponse(authUser.username(), authUser.nickname());
+        }
+        return getUserInfo(authUser.username());
     }
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.game.warcry.service.impl;
 
+import com.game.warcry.cache.CacheInvalidation;
+import com.game.warcry.cache.CacheInvalidationDispatcher;
+import com.game.warcry.cache.Coalesced;
+import com.game.warcry.cache.UserCache;
+import com.game.warcry.diagnostics.MatchLifecycleEvent;
 import com.game.warcry.dto.listen.ListenMatchCreateRequest;
 import com.game.warcry.dto.listen.ListenMatchCreateResponse;
 import com.game.warcry.dto.listen.ListenMatchListResponse;
 import com.game.warcry.dto.listen.ListenMatchDetailResponse;
+import com.game.warcry.dto.match.MatchDetailView;
 import com.game.warcry.dto.listen.ListenMatchJoinRequest;
 import com.game.warcry.dto.listen.ListenMatchJoinResponse;
 import com.game.warcry.dto.listen.ListenMatchLeaveResponse;
@@ -11,6 +17,9 @@ import com.game.warcry.dto.listen.ListenMatchHostLeaveResponse;
 import com.game.warcry.dto.listen.ListenMatchResultRequest;
 import com.game.warcry.dto.listen.ListenMatchResultResponse;
 import com.game.warcry.dto.rank.RatingChangeDTO;
+import com.game.warcry.limit.Bulkheaded;
+import com.game.warcry.limit.TrafficClass;
+import com.game.warcry.service.LobbyService;
 import com.game.warcry.service.RankService;
 import org.springframework.security.access.AccessDeniedException;
 import java.util.List;
@@ -37,10 +46,17 @@ public class ListenMatchServiceImpl implements ListenMatchService {
     private final UserRepository userRepository;
     private final MatchUserRepository matchUserRepository;
     private final RankService rankService;
+    private final UserCache userCache;
+    private final LobbyService lobbyService;
+    private final CacheInvalidationDispatcher cacheInvalidation;
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional
-    public ListenMatchCreateResponse createMatch(String username, ListenMatchCreateRequest request) {
+    public ListenMatchCreateResponse createMatch(Long userId, ListenMatchCreateRequest request) {
+        MatchLifecycleEvent event = MatchLifecycleEvent.begin(
+                MatchLifecycleEvent.CREATE, MatchLifecycleEvent.LISTEN, null, userId);
+
         // 요청 검증
         if (request.getTitle() == null || request.getIsPrivate() == null ||
                 request.getHostIp() == null || request.getHostPort() == null) {
@@ -60,9 +76,8 @@ public class ListenMatchServiceImpl implements ListenMatchService {
             throw new IllegalStateException("해당 IP/PORT 조합이 이미 사용 중입니다.");
         }
 
-        // 사용자 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 사용자 참조 (토큰의 userId 사용, 존재 여부는 캐시로 확인)
+        User user = userReference(userId);
 
         // 매치 생성
         Match match = Match.builder()
@@ -74,6 +89,7 @@ public class ListenMatchServiceImpl implements ListenMatchService {
                 .gameServer(null) // 명시적으로 null 설정하였음.
                 .build();
         match = matchRepository.save(match);
+        event.setMatchId(match.getId());
 
         // HOST로 사용자 등록
         MatchUser matchUser = MatchUser.builder()
@@ -82,6 +98,7 @@ public class ListenMatchServiceImpl implements ListenMatchService {
                 .role(MatchUser.UserRole.HOST)
                 .build();
         matchUserRepository.save(matchUser);
+        invalidate(CacheInvalidation.lobby());
 
         // 신규 유저의 경우 초기 레이팅 생성
         rankService.initializeUserRating(user.getId());
@@ -98,33 +115,20 @@ public class ListenMatchServiceImpl implements ListenMatchService {
     }
 
     @Override
+    @Coalesced(ttlMillis = 500)
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional(readOnly = true)
     public ListenMatchListResponse getMatches(Boolean isPrivate, String status, Integer limit) {
-        // 모든 매치를 가져와서 필터링
-        List<Match> allMatches = matchRepository.findMatchesByFilters(isPrivate, status, limit);
-
-        // Listen Server 매치만 필터링 (hostIp, hostPort가 null이 아닌 매치)
-        List<Match> listenMatches = allMatches.stream()
-                .filter(Match::isListenServer)
-                .collect(Collectors.toList());
-
-        // DTO 변환
-        List<ListenMatchListResponse.MatchSummary> matchSummaries = listenMatches.stream()
-                .map(match -> {
-                    // HOST 유저 찾기
-                    MatchUser hostUser = matchUserRepository.findByMatchAndRole(match, MatchUser.UserRole.HOST)
-                            .orElse(null);
-
-                    String hostNickname = hostUser != null ? hostUser.getUser().getNickname() : "Unknown";
-
-                    return ListenMatchListResponse.MatchSummary.builder()
-                            .matchId(match.getId())
-                            .title(match.getTitle())
-                            .hostNickname(hostNickname)
-                            .isPrivate(match.getIsPrivate())
-                            .status(match.getStatus().name())
-                            .build();
-                })
+        // Listen Server 매치만 조회 (hostIp가 있는 매치, SQL에서 필터링)
+        List<ListenMatchListResponse.MatchSummary> matchSummaries = lobbyService
+                .getLobby(LobbyService.Kind.LISTEN, isPrivate, status, limit).stream()
+                .map(entry -> ListenMatchListResponse.MatchSummary.builder()
+                        .matchId(entry.match().getId())
+                        .title(entry.match().getTitle())
+                        .hostNickname(entry.hostNickname())
+                        .isPrivate(entry.match().getIsPrivate())
+                        .status(entry.match().getStatus().name())
+                        .build())
                 .collect(Collectors.toList());
 
         return ListenMatchListResponse.builder()
@@ -134,38 +138,28 @@ public class ListenMatchServiceImpl implements ListenMatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional(readOnly = true)
     public ListenMatchDetailResponse getMatchDetail(Long matchId) {
-        // 매치 조회
-        Match match = matchRepository.findById(matchId)
+        // 매치와 호스트/게스트 닉네임을 한 번의 쿼리로 조회
+        MatchDetailView detail = matchRepository.findDetailById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치를 찾을 수 없습니다."));
 
         // Listen Server 매치인지 확인
-        if (!match.isListenServer()) {
+        if (!detail.isListenServer()) {
             throw new IllegalArgumentException("해당 매치는 Listen Server 매치가 아닙니다.");
         }
 
-        // 호스트 정보 조회
-        MatchUser hostUser = matchUserRepository.findByMatchAndRole(match, MatchUser.UserRole.HOST)
-                .orElse(null);
-
-        // 게스트 정보 조회
-        MatchUser guestUser = matchUserRepository.findByMatchAndRole(match, MatchUser.UserRole.GUEST)
-                .orElse(null);
-
-        String hostNickname = hostUser != null ? hostUser.getUser().getNickname() : "Unknown";
-        String guestNickname = guestUser != null ? guestUser.getUser().getNickname() : null;
-
         // DTO 변환
         ListenMatchDetailResponse.MatchDto matchDto = ListenMatchDetailResponse.MatchDto.builder()
-                .matchId(match.getId())
-                .title(match.getTitle())
-                .isPrivate(match.getIsPrivate())
-                .status(match.getStatus().name())
-                .hostIp(match.getHostIp())
-                .hostPort(match.getHostPort())
-                .hostNickname(hostNickname)
-                .guestNickname(guestNickname)
+                .matchId(detail.matchId())
+                .title(detail.title())
+                .isPrivate(detail.isPrivate())
+                .status(detail.status().name())
+                .hostIp(detail.hostIp())
+                .hostPort(detail.hostPort())
+                .hostNickname(detail.hostNickname() != null ? detail.hostNickname() : "Unknown")
+                .guestNickname(detail.guestNickname())
                 .build();
 
         return ListenMatchDetailResponse.builder()
@@ -175,8 +169,11 @@ public class ListenMatchServiceImpl implements ListenMatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional
-    public ListenMatchJoinResponse joinMatch(Long matchId, String username, ListenMatchJoinRequest request) {
+    public ListenMatchJoinResponse joinMatch(Long matchId, Long userId, ListenMatchJoinRequest request) {
+        MatchLifecycleEvent.begin(MatchLifecycleEvent.JOIN, MatchLifecycleEvent.LISTEN, matchId, userId);
+
         // 1. 매치 조회 (기존 코드 유지)
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치를 찾을 수 없습니다."));
@@ -186,9 +183,8 @@ public class ListenMatchServiceImpl implements ListenMatchService {
             throw new IllegalArgumentException("해당 매치는 Listen Server 매치가 아닙니다.");
         }
 
-        // 3. 유저 조회 (기존 코드 유지)
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 3. 유저 참조 (토큰의 userId 사용, 존재 여부는 캐시로 확인)
+        User user = userReference(userId);
 
         // 4. 역할 확인 - HOST 존재 여부 확인 (새로 추가)
         boolean hasHost = matchUserRepository.existsByMatchAndRole(match, MatchUser.UserRole.HOST);
@@ -233,6 +229,11 @@ public class ListenMatchServiceImpl implements ListenMatchService {
                 .build();
 
         matchUserRepository.save(matchUser);
+        // 두 번째 참가자가 들어오면 인원이 차므로 매치 시작
+        if (participantCount == 1) {
+            match.start();
+        }
+        invalidate(CacheInvalidation.lobby());
 
         // 신규 유저의 경우 초기 레이팅 생성
         rankService.initializeUserRating(user.getId());
@@ -251,8 +252,9 @@ public class ListenMatchServiceImpl implements ListenMatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional
-    public ListenMatchLeaveResponse leaveMatch(Long matchId, String username) {
+    public ListenMatchLeaveResponse leaveMatch(Long matchId, Long userId) {
         // 1. 매치 존재 여부 확인
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치를 찾을 수 없습니다."));
@@ -262,9 +264,8 @@ public class ListenMatchServiceImpl implements ListenMatchService {
             throw new IllegalArgumentException("해당 매치는 Listen Server 매치가 아닙니다.");
         }
 
-        // 3. 유저 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 3. 유저 참조
+        User user = userReference(userId);
 
         // 4. 유저가 해당 매치에 참여하는지 확인
         MatchUser matchUser = matchUserRepository.findByMatchAndUser(match, user)
@@ -282,6 +283,7 @@ public class ListenMatchServiceImpl implements ListenMatchService {
 
         // 7. GUEST 유저 제거
         matchUserRepository.delete(matchUser);
+        invalidate(CacheInvalidation.lobby());
 
         // 8. 응답 반환
         return ListenMatchLeaveResponse.builder()
@@ -292,8 +294,9 @@ public class ListenMatchServiceImpl implements ListenMatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional
-    public ListenMatchHostLeaveResponse hostLeaveMatch(Long matchId, String username) {
+    public ListenMatchHostLeaveResponse hostLeaveMatch(Long matchId, Long userId) {
         // 1. 매치 존재 여부 확인
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치를 찾을 수 없습니다."));
@@ -303,9 +306,8 @@ public class ListenMatchServiceImpl implements ListenMatchService {
             throw new IllegalArgumentException("해당 매치는 Listen Server 매치가 아닙니다.");
         }
 
-        // 3. 유저 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 3. 유저 참조
+        User user = userReference(userId);
 
         // 4. 유저가 해당 매치에 참여하는지 확인
         MatchUser hostMatchUser = matchUserRepository.findByMatchAndUser(match, user)
@@ -334,6 +336,7 @@ public class ListenMatchServiceImpl implements ListenMatchService {
 
             // 매치 삭제
             matchRepository.delete(match);
+            invalidate(CacheInvalidation.lobby());
 
             return ListenMatchHostLeaveResponse.builder()
                     .success(true)
@@ -349,6 +352,7 @@ public class ListenMatchServiceImpl implements ListenMatchService {
 
             // 기존 HOST 정보 삭제
             matchUserRepository.delete(hostMatchUser);
+            invalidate(CacheInvalidation.lobby());
 
             return ListenMatchHostLeaveResponse.builder()
                     .success(true)
@@ -362,8 +366,11 @@ public class ListenMatchServiceImpl implements ListenMatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.RESULT_WRITE)
     @Transactional
-    public ListenMatchResultResponse saveMatchResult(Long matchId, String username, ListenMatchResultRequest request) {
+    public ListenMatchResultResponse saveMatchResult(Long matchId, Long userId, ListenMatchResultRequest request) {
+        MatchLifecycleEvent.begin(MatchLifecycleEvent.RESULT, MatchLifecycleEvent.LISTEN, matchId, userId);
+
         // 1. 매치 존재 여부 확인
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치 또는 유저 정보를 찾을 수 없습니다."));
@@ -374,8 +381,7 @@ public class ListenMatchServiceImpl implements ListenMatchService {
         }
 
         // 3. 요청자가 매치 참여자인지 확인 (보안 검증)
-        User requester = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User requester = userReference(userId);
 
         boolean isParticipant = matchUserRepository.existsByMatchAndUser(match, requester);
         if (!isParticipant) {
@@ -421,8 +427,9 @@ public class ListenMatchServiceImpl implements ListenMatchService {
         }
 
         // 8. 매치 종료 시간 업데이트
-        match.setEndTime(java.time.LocalDateTime.now());
+        match.end();
         matchRepository.save(match);
+        invalidate(CacheInvalidation.lobby());
 
         // 9. 승자와 패자 ID 목록 생성
         List<Long> winnerIds = matchUsers.stream()
@@ -447,4 +454,15 @@ public class ListenMatchServiceImpl implements ListenMatchService {
                 .build();
     }
 
-}
\ No newline at end of file
+    // 캐시 무효화 (이 인스턴스는 커밋 직후, 다른 인스턴스는 커밋과 함께 전달)
+    private void invalidate(CacheInvalidation invalidation) {
+        cacheInvalidation.invalidate(invalidation);
+    }
+
+    // 토큰의 userId 로 만드는 연관관계용 프록시 (존재 여부는 유저 캐시로 확인 → 삭제된 유저의 토큰은 flush 시 FK 오류 대신 4xx)
+    private User userReference(Long userId) {
+        userCache.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
+        return userRepository.getReferenceById(userId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.game.warcry.service.impl;
+
+import com.game.warcry.model.Match;
+import com.game.warcry.repository.MatchRepository;
+import com.game.warcry.repository.MatchUserRepository;
+import com.game.warcry.service.LobbyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class LobbyServiceImpl implements LobbyService {
+
+    // 로비 목록 크기 (지정하지 않으면 10개, 최대 100개)
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private final MatchRepository matchRepository;
+    private final MatchUserRepository matchUserRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Entry> getLobby(Kind kind, Boolean isPrivate, String status, Integer limit) {
+        Match.MatchStatus matchStatus = null;
+        if (status != null) {
+            try {
+                matchStatus = Match.MatchStatus.valueOf(status);
+            } catch (IllegalArgumentException e) {
+                // 알 수 없는 상태 값은 빈 목록
+                return List.of();
+            }
+        }
+
+        List<Match> matches = findMatches(kind, isPrivate, matchStatus, toLimit(limit));
+
+        // 호스트 정보는 목록 전체를 한 번에 조회
+        Map<Long, String> hostNicknames = matchUserRepository.findHostNicknames(matches);
+
+        return matches.stream()
+                .map(match -> new Entry(match, hostNicknames.getOrDefault(match.getId(), "Unknown")))
+                .toList();
+    }
+
+    // 지정된 필터만 들어간 쿼리를 골라 실행 (대기 중인 매치는 종류별 부분 인덱스를 타는 전용 쿼리)
+    private List<Match> findMatches(Kind kind, Boolean isPrivate, Match.MatchStatus status, Limit limit) {
+        return kind == Kind.LISTEN
+                ? findListen(isPrivate, status, limit)
+                : findDedicated(isPrivate, status, limit);
+    }
+
+    private List<Match> findDedicated(Boolean isPrivate, Match.MatchStatus status, Limit limit) {
+        if (status == Match.MatchStatus.WAITING) {
+            return isPrivate == null
+                    ? matchRepository.findWaitingDedicated(limit)
+                    : matchRepository.findWaitingDedicatedByPrivacy(isPrivate, limit);
+        }
+        if (status != null) {
+            return isPrivate == null
+                    ? matchRepository.findDedicatedByStatus(status, limit)
+                    : matchRepository.findDedicatedByStatusAndPrivacy(status, isPrivate, limit);
+        }
+        return isPrivate == null
+                ? matchRepository.findDedicated(limit)
+                : matchRepository.findDedicatedByPrivacy(isPrivate, limit);
+    }
+
+    private List<Match> findListen(Boolean isPrivate, Match.MatchStatus status, Limit limit) {
+        if (status == Match.MatchStatus.WAITING) {
+            return isPrivate == null
+                    ? matchRepository.findWaitingListen(limit)
+                    : matchRepository.findWaitingListenByPrivacy(isPrivate, limit);
+        }
+        if (status != null) {
+            return isPrivate == null
+                    ? matchRepository.findListenByStatus(status, limit)
+                    : matchRepository.findListenByStatusAndPrivacy(status, isPrivate, limit);
+        }
+        return isPrivate == null
+                ? matchRepository.findListen(limit)
+                : matchRepository.findListenByPrivacy(isPrivate, limit);
+    }
+
+    private static Limit toLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return Limit.of(DEFAULT_LIMIT);
+        }
+        return Limit.of(Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -1,7 +1,15 @@
 package com.game.warcry.service.impl;
 
+import com.game.warcry.cache.CacheInvalidation;
+import com.game.warcry.cache.CacheInvalidationDispatcher;
+import com.game.warcry.cache.Coalesced;
+import com.game.warcry.cache.UserCache;
+import com.game.warcry.diagnostics.MatchLifecycleEvent;
+import com.game.warcry.diagnostics.ServerAllocationEvent;
 import com.game.warcry.dto.match.*;
 import com.game.warcry.dto.rank.RatingChangeDTO;
+import com.game.warcry.limit.Bulkheaded;
+import com.game.warcry.limit.TrafficClass;
 import com.game.warcry.model.GameServer;
 import com.game.warcry.model.Match;
 import com.game.warcry.model.MatchUser;
@@ -10,13 +18,13 @@ import com.game.warcry.repository.GameServerRepository;
 import com.game.warcry.repository.MatchRepository;
 import com.game.warcry.repository.MatchUserRepository;
 import com.game.warcry.repository.UserRepository;
+import com.game.warcry.service.LobbyService;
 import com.game.warcry.service.MatchService;
 import com.game.warcry.service.RankService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.game.warcry.dto.match.MatchLeaveResponse;
@@ -37,28 +45,25 @@ public class MatchServiceImpl implements MatchService {
     private final MatchUserRepository matchUserRepository;
     private final UserRepository userRepository;
     private final RankService rankService;
+    private final UserCache userCache;
+    private final LobbyService lobbyService;
+    private final CacheInvalidationDispatcher cacheInvalidation;
 
     @Override
+    @Coalesced(ttlMillis = 500)
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional(readOnly = true)
     public MatchListResponse getMatches(Boolean isPrivate, String status, Integer limit) {
-        List<Match> matches = matchRepository.findMatchesByFilters(isPrivate, status, limit);
-
-        List<MatchListResponse.MatchItem> matchItems = matches.stream()
-                .map(match -> {
-                    // 호스트 정보 조회
-                    MatchUser hostMatchUser = matchUserRepository.findByMatchAndRole(match, MatchUser.UserRole.HOST)
-                            .orElse(null);
-
-                    String hostNickname = hostMatchUser != null ? hostMatchUser.getUser().getNickname() : "Unknown";
-
-                    return MatchListResponse.MatchItem.builder()
-                            .matchId(match.getId())
-                            .title(match.getTitle())
-                            .hostNickname(hostNickname)
-                            .isPrivate(match.getIsPrivate())
-                            .status(match.getStatus().name())
-                            .build();
-                })
+        // 전용 서버 매치만 조회 (Listen 서버 매치 제외)
+        List<MatchListResponse.MatchItem> matchItems = lobbyService
+                .getLobby(LobbyService.Kind.DEDICATED, isPrivate, status, limit).stream()
+                .map(entry -> MatchListResponse.MatchItem.builder()
+                        .matchId(entry.match().getId())
+                        .title(entry.match().getTitle())
+                        .hostNickname(entry.hostNickname())
+                        .isPrivate(entry.match().getIsPrivate())
+                        .status(entry.match().getStatus().name())
+                        .build())
                 .collect(Collectors.toList());
 
         return MatchListResponse.builder()
@@ -68,31 +73,22 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional(readOnly = true)
     public MatchDetailResponse getMatchDetail(Long matchId) {
-        Match match = matchRepository.findById(matchId)
+        // 매치/게임 서버/참가자 닉네임을 한 번의 쿼리로 조회
+        MatchDetailView detail = matchRepository.findDetailById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("매치를 찾을 수 없습니다."));
 
-        // 호스트 정보 조회
-        MatchUser hostMatchUser = matchUserRepository.findByMatchAndRole(match, MatchUser.UserRole.HOST)
-                .orElse(null);
-
-        // 게스트 정보 조회
-        MatchUser guestMatchUser = matchUserRepository.findByMatchAndRole(match, MatchUser.UserRole.GUEST)
-                .orElse(null);
-
-        String hostNickname = hostMatchUser != null ? hostMatchUser.getUser().getNickname() : "Unknown";
-        String guestNickname = guestMatchUser != null ? guestMatchUser.getUser().getNickname() : null;
-
         MatchDetailResponse.MatchDto matchDto = MatchDetailResponse.MatchDto.builder()
-                .matchId(match.getId())
-                .title(match.getTitle())
-                .isPrivate(match.getIsPrivate())
-                .status(match.getStatus().name())
-                .serverIp(match.getGameServer().getServerIp())
-                .serverPort(match.getGameServer().getServerPort())
-                .hostNickname(hostNickname)
-                .guestNickname(guestNickname)
+                .matchId(detail.matchId())
+                .title(detail.title())
+                .isPrivate(detail.isPrivate())
+                .status(detail.status().name())
+                .serverIp(detail.serverIp())
+                .serverPort(detail.serverPort())
+                .hostNickname(detail.hostNickname() != null ? detail.hostNickname() : "Unknown")
+                .guestNickname(detail.guestNickname())
                 .build();
 
         return MatchDetailResponse.builder()
@@ -102,15 +98,18 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional
-    public MatchCreateResponse createMatch(String username, MatchCreateRequest request) {
+    public MatchCreateResponse createMatch(Long userId, MatchCreateRequest request) {
+        MatchLifecycleEvent event = MatchLifecycleEvent.begin(
+                MatchLifecycleEvent.CREATE, MatchLifecycleEvent.DEDICATED, null, userId);
+
         // 사용 가능한 서버 찾기
-        GameServer gameServer = gameServerRepository.findFirstAvailableServer()
+        GameServer gameServer = ServerAllocationEvent.record(gameServerRepository::findFirstAvailableServer)
                 .orElseThrow(() -> new IllegalStateException("사용 가능한 게임 서버가 없습니다."));
 
-        // 유저 확인 (username으로 조회)
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("유효하지 않은 사용자입니다."));
+        // 유저 참조 (토큰의 userId 사용, 존재 여부는 캐시로 확인)
+        User user = userReference(userId);
 
         // 매치 생성
         Match match = Match.builder()
@@ -121,6 +120,7 @@ public class MatchServiceImpl implements MatchService {
                 .build();
 
         Match savedMatch = matchRepository.save(match);
+        event.setMatchId(savedMatch.getId());
 
         // 서버 상태 업데이트
         gameServer.setStatus(GameServer.ServerStatus.IN_USE);
@@ -136,6 +136,8 @@ public class MatchServiceImpl implements MatchService {
                 .build();
 
         matchUserRepository.save(matchUser);
+        invalidate(CacheInvalidation.lobby());
+        invalidate(CacheInvalidation.gameServer(gameServer.getId()));
 
         // 신규 유저의 경우 초기 레이팅 생성
         // rankService.initializeUserRating(user.getId());
@@ -151,14 +153,16 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional
-    public MatchJoinResponse joinMatch(Long matchId, String username, MatchJoinRequest request) {
+    public MatchJoinResponse joinMatch(Long matchId, Long userId, MatchJoinRequest request) {
+        MatchLifecycleEvent.begin(MatchLifecycleEvent.JOIN, MatchLifecycleEvent.DEDICATED, matchId, userId);
+
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치를 찾을 수 없습니다."));
 
-        // 유저 확인 (username으로 조회)
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("유효하지 않은 사용자입니다."));
+        // 유저 참조 (토큰의 userId 사용, 존재 여부는 캐시로 확인)
+        User user = userReference(userId);
 
         // 매치가 가득 찼는지 확인
         int participantCount = matchUserRepository.countByMatch(match);
@@ -180,6 +184,11 @@ public class MatchServiceImpl implements MatchService {
                 .build();
 
         matchUserRepository.save(matchUser);
+        // 게스트가 들어오면 인원(2명)이 차므로 매치 시작
+        if (participantCount == 1) {
+            match.start();
+        }
+        invalidate(CacheInvalidation.lobby());
 
         // 신규 유저의 경우 초기 레이팅 생성
         // rankService.initializeUserRating(user.getId());
@@ -190,21 +199,23 @@ public class MatchServiceImpl implements MatchService {
                 .serverIp(match.getGameServer().getServerIp())
                 .serverPort(match.getGameServer().getServerPort())
                 .role("GUEST")
-                .status("WAITING")
+                .status(match.getStatus().name())
                 .message("매치에 성공적으로 참가했습니다.")
                 .build();
     }
 
     @Override
+    @Bulkheaded(TrafficClass.RESULT_WRITE)
     @Transactional
-    public MatchResultResponse saveMatchResult(Long matchId, String username, MatchResultRequest request) {
+    public MatchResultResponse saveMatchResult(Long matchId, Long userId, MatchResultRequest request) {
+        MatchLifecycleEvent.begin(MatchLifecycleEvent.RESULT, MatchLifecycleEvent.DEDICATED, matchId, userId);
+
         // 1. 매치 존재 여부 확인
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치 또는 유저 정보를 찾을 수 없습니다."));
 
         // 2. 요청자가 매치 참여자인지 확인 (보안 검증)
-        User requester = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("유효하지 않은 사용자입니다."));
+        User requester = userReference(userId);
 
         boolean isParticipant = matchUserRepository.existsByMatchAndUser(match, requester);
         if (!isParticipant) {
@@ -250,8 +261,9 @@ public class MatchServiceImpl implements MatchService {
         }
 
         // 7. 매치 종료 시간 업데이트
-        match.setEndTime(LocalDateTime.now());
+        match.end();
         matchRepository.save(match);
+        invalidate(CacheInvalidation.lobby());
 
         // 8. 추가: 게임 서버 상태 업데이트
         GameServer gameServer = match.getGameServer();
@@ -259,6 +271,7 @@ public class MatchServiceImpl implements MatchService {
             gameServer.setStatus(GameServer.ServerStatus.AVAILABLE);
             gameServer.setLastUpdated(LocalDateTime.now());
             gameServerRepository.save(gameServer);
+            invalidate(CacheInvalidation.gameServer(gameServer.getId()));
             log.info("매치 ID: {} 종료로 서버 ID: {} 상태를 IN_USE → AVAILABLE로 변경", matchId, gameServer.getId());
         }
 
@@ -286,15 +299,15 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional
-    public MatchLeaveResponse leaveMatch(Long matchId, String username) {
+    public MatchLeaveResponse leaveMatch(Long matchId, Long userId) {
         // 1. 매치 존재 여부 확인
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치를 찾을 수 없습니다."));
 
-        // 2. 유저 확인
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("유효하지 않은 사용자입니다."));
+        // 2. 유저 참조
+        User user = userReference(userId);
 
         // 3. 유저가 해당 매치에 참여하는지 확인
         MatchUser matchUser = matchUserRepository.findByMatchAndUser(match, user)
@@ -312,6 +325,7 @@ public class MatchServiceImpl implements MatchService {
 
         // 6. GUEST 유저 제거
         matchUserRepository.delete(matchUser);
+        invalidate(CacheInvalidation.lobby());
 
         // 7. 응답 반환
         return MatchLeaveResponse.builder()
@@ -322,15 +336,15 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.LOBBY)
     @Transactional
-    public MatchHostLeaveResponse hostLeaveMatch(Long matchId, String username) {
+    public MatchHostLeaveResponse hostLeaveMatch(Long matchId, Long userId) {
         // 1. 매치 존재 여부 확인
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치를 찾을 수 없습니다."));
 
-        // 2. 유저 확인
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("유효하지 않은 사용자입니다."));
+        // 2. 유저 참조
+        User user = userReference(userId);
 
         // 3. 유저가 해당 매치에 참여하는지 확인
         MatchUser hostMatchUser = matchUserRepository.findByMatchAndUser(match, user)
@@ -362,10 +376,12 @@ public class MatchServiceImpl implements MatchService {
             gameServer.setStatus(GameServer.ServerStatus.AVAILABLE);
             gameServer.setLastUpdated(LocalDateTime.now());
             gameServerRepository.save(gameServer);
+            invalidate(CacheInvalidation.gameServer(gameServer.getId()));
             log.info("호스트 나가기로 매치 ID: {} 해산으로 서버 ID: {} 상태를 AVAILABLE로 변경", matchId, gameServer.getId());
 
             // 매치 삭제
             matchRepository.delete(match);
+            invalidate(CacheInvalidation.lobby());
 
             return MatchHostLeaveResponse.builder()
                     .success(true)
@@ -381,6 +397,7 @@ public class MatchServiceImpl implements MatchService {
 
             // 기존 HOST 정보 삭제
             matchUserRepository.delete(hostMatchUser);
+            invalidate(CacheInvalidation.lobby());
 
             return MatchHostLeaveResponse.builder()
                     .success(true)
@@ -392,4 +409,16 @@ public class MatchServiceImpl implements MatchService {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    // 캐시 무효화 (이 인스턴스는 커밋 직후, 다른 인스턴스는 커밋과 함께 전달)
+    private void invalidate(CacheInvalidation invalidation) {
+        cacheInvalidation.invalidate(invalidation);
+    }
+
+    // 토큰의 userId 로 만드는 연관관계용 프록시 (존재 여부는 유저 캐시로 확인 → 삭제된 유저의 토큰은 flush 시 FK 오류 대신 4xx)
+    private User userReference(Long userId) {
+        userCache.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
+        return userRepository.getReferenceById(userId);
+    }
+}
@@ -1,6 +1,13 @@
 package com.game.warcry.service.impl;
 
+import com.game.warcry.cache.CacheInvalidation;
+import com.game.warcry.cache.CacheInvalidationDispatcher;
+import com.game.warcry.cache.Coalesced;
+import com.game.warcry.cache.UserCache;
+import com.game.warcry.diagnostics.RatingUpdateEvent;
 import com.game.warcry.dto.rank.*;
+import com.game.warcry.limit.Bulkheaded;
+import com.game.warcry.limit.TrafficClass;
 import com.game.warcry.model.*;
 import com.game.warcry.repository.*;
 import com.game.warcry.service.RankService;
@@ -13,7 +20,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -29,10 +35,15 @@ public class RankServiceImpl implements RankService {
     private final RatingRepository ratingRepository;
     private final RatingHistoryRepository ratingHistoryRepository;
     private final DailyStatsRepository dailyStatsRepository;
+    private final UserCache userCache;
+    private final CacheInvalidationDispatcher cacheInvalidation;
 
     @Override
+    @Coalesced
+    @Bulkheaded(TrafficClass.RANK_READ)
+    @Transactional(readOnly = true)
     public RankPlayerResponse getPlayerRank(Long userId) {
-        User user = userRepository.findById(userId)
+        UserCache.CachedUser user = userCache.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
 
         Rating rating = ratingRepository.findByUserId(userId)
@@ -47,8 +58,8 @@ public class RankServiceImpl implements RankService {
         return RankPlayerResponse.builder()
                 .success(true)
                 .userId(userId)
-                .username(user.getUsername())
-                .nickname(user.getNickname())
+                .username(user.username())
+                .nickname(user.nickname())
                 .points(rating.getPoint())
                 .tier(rating.getTier())
                 .wins(rating.getWins())
@@ -62,6 +73,9 @@ public class RankServiceImpl implements RankService {
     }
 
     @Override
+    @Coalesced(ttlMillis = 1000)
+    @Bulkheaded(TrafficClass.RANK_READ)
+    @Transactional(readOnly = true)
     public LeaderboardResponse getLeaderboard(Integer tier, Integer page, Integer size) {
         Pageable pageable = PageRequest.of(page, size);
         List<Rating> ratings;
@@ -108,39 +122,23 @@ public class RankServiceImpl implements RankService {
     }
 
     @Override
+    @Coalesced
+    @Bulkheaded(TrafficClass.RANK_READ)
+    @Transactional(readOnly = true)
     public RankHistoryResponse getMatchHistory(Long userId, Integer page, Integer size) {
-        // 유저 존재 여부 확인
-        User user = userRepository.findById(userId)
+        // 유저 존재 여부 확인 (캐시)
+        userCache.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
 
+        // 매치/상대방 정보까지 한 번에 조회 (페이지 쿼리 + COUNT 쿼리)
         Pageable pageable = PageRequest.of(page, size);
-        List<RatingHistory> histories = ratingHistoryRepository.findByUserIdOrderByChangeTimeDesc(userId, pageable);
+        List<MatchHistoryDTO> matches = ratingHistoryRepository.findHistoryPage(userId, pageable);
         long totalMatches = ratingHistoryRepository.countByUserId(userId);
 
-        List<MatchHistoryDTO> matches = new ArrayList<>();
-
-        for (RatingHistory history : histories) {
-            Match match = history.getMatch();
-
-            // 상대방 찾기
-            MatchUser opponent = matchUserRepository.findByMatchAndUserNot(match, user)
-                    .orElse(null);
-
-            String opponentNickname = opponent != null ? opponent.getUser().getNickname() : "알 수 없음";
-            Long opponentId = opponent != null ? opponent.getUser().getId() : null;
-
-            matches.add(MatchHistoryDTO.builder()
-                    .matchId(match.getId())
-                    .timestamp(history.getChangeTime())
-                    .result(history.getWinner() ? "WIN" : "LOSE")
-                    .pointsBefore(history.getPointBefore())
-                    .pointsAfter(history.getPointAfter())
-                    .pointsChange(history.getPointChange())
-                    .tierBefore(history.getTierBefore())
-                    .tierAfter(history.getTierAfter())
-                    .opponentId(opponentId)
-                    .opponentNickname(opponentNickname)
-                    .build());
+        for (MatchHistoryDTO match : matches) {
+            if (match.getOpponentId() == null) {
+                match.setOpponentNickname("알 수 없음");
+            }
         }
 
         boolean hasNext = (long) (page + 1) * size < totalMatches;
@@ -157,9 +155,12 @@ public class RankServiceImpl implements RankService {
     }
 
     @Override
+    @Coalesced
+    @Bulkheaded(TrafficClass.RANK_READ)
+    @Transactional(readOnly = true)
     public DailyStatsResponse getUserDailyStats(Long userId, String startDateStr, String endDateStr) {
         // 유저 존재 여부 확인
-        userRepository.findById(userId)
+        userCache.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
@@ -191,6 +192,9 @@ public class RankServiceImpl implements RankService {
     }
 
     @Override
+    @Coalesced(ttlMillis = 1000)
+    @Bulkheaded(TrafficClass.RANK_READ)
+    @Transactional(readOnly = true)
     public DailyRankStatsResponse getDailyRankStats(String dateStr) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
         LocalDate date = LocalDate.parse(dateStr, formatter);
@@ -225,6 +229,9 @@ public class RankServiceImpl implements RankService {
     }
 
     @Override
+    @Coalesced(ttlMillis = 5000)
+    @Bulkheaded(TrafficClass.RANK_READ)
+    @Transactional(readOnly = true)
     public TierDistributionResponse getTierDistribution() {
         List<TierCountDTO> tiers = new ArrayList<>();
 
@@ -244,8 +251,11 @@ public class RankServiceImpl implements RankService {
     }
 
     @Override
+    @Bulkheaded(TrafficClass.RESULT_WRITE)
     @Transactional
     public List<RatingChangeDTO> processMatchResult(Long matchId, List<Long> winnerIds, List<Long> loserIds) {
+        RatingUpdateEvent.begin(matchId, winnerIds.size(), loserIds.size());
+
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매치를 찾을 수 없습니다."));
 
@@ -262,9 +272,12 @@ public class RankServiceImpl implements RankService {
         }
 
         // 매치 종료 시간 설정
-        match.setEndTime(LocalDateTime.now());
+        match.end();
         matchRepository.save(match);
 
+        // 리더보드/순위 조회 결과 무효화 (이 인스턴스 + 다른 인스턴스)
+        invalidate(CacheInvalidation.rank());
+
         return changes;
     }
 
@@ -283,6 +296,7 @@ public class RankServiceImpl implements RankService {
             // 초기 레이팅 생성
             Rating rating = Rating.initializeRating(user);
             ratingRepository.save(rating);
+            invalidate(CacheInvalidation.rank());
         } catch (Exception e) {
             // 이미 저장된 경우 예외를 무시합니다
             if (e instanceof org.hibernate.StaleObjectStateException ||
@@ -296,10 +310,17 @@ public class RankServiceImpl implements RankService {
         }
     }
 
+    // 캐시 무효화 (이 인스턴스는 커밋 직후, 다른 인스턴스는 커밋과 함께 전달)
+    private void invalidate(CacheInvalidation invalidation) {
+        cacheInvalidation.invalidate(invalidation);
+    }
+
     // 승리/패배 처리 공통 로직 추출
     private RatingChangeDTO processRatingChange(Match match, Long userId, boolean isWin) {
-        User user = userRepository.findById(userId)
+        // 존재 여부는 캐시로 확인하고, 연관관계에는 프록시 참조만 사용 (users SELECT 생략)
+        userCache.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 유저를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(userId);
 
         // 레이팅 가져오기 (없으면 초기화)
         Rating rating = ratingRepository.findByUserId(userId)
@@ -0,0 +1,113 @@
+package com.game.warcry.service.impl;
+
+import com.game.warcry.model.RefreshToken;
+import com.game.warcry.repository.RefreshTokenRepository;
+import com.game.warcry.security.InvalidRefreshTokenException;
+import com.game.warcry.security.TokenDigests;
+import com.game.warcry.service.RefreshTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private final Logger log = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final long expirationMillis;
+    private final Duration reuseGrace;
+
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                                   @Value("${jwt.expiration.refresh:604800000}") long expirationMillis,
+                                   @Value("${jwt.refresh-reuse-grace:10s}") Duration reuseGrace) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expirationMillis = expirationMillis;
+        this.reuseGrace = reuseGrace;
+    }
+
+    @Override
+    @Transactional
+    public String issue(Long userId) {
+        return save(userId, UUID.randomUUID());
+    }
+
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        // 다이제스트 unique 인덱스 조회 1회 (BCrypt 검증 없음)
+        RefreshToken token = refreshTokenRepository.findByTokenHash(TokenDigests.sha256(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (Boolean.TRUE.equals(token.getRevoked())) {
+            throw new InvalidRefreshTokenException("폐기된 리프레시 토큰입니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("만료된 리프레시 토큰입니다.");
+        }
+
+        if (token.getUsedAt() != null) {
+            // 방금 회전된 토큰이 다시 옴 (응답을 못 받은 클라이언트의 재시도, 중복 전송)
+            // → 폐기하지 않고 실패만 시킴 (첫 요청이 발급한 토큰은 원문을 저장하지 않으므로 다시 돌려줄 수 없음)
+            if (token.getUsedAt().isAfter(now.minus(reuseGrace))) {
+                log.info("회전 직후 리프레시 토큰 재제출. userId: {}, familyId: {}", token.getUserId(), token.getFamilyId());
+                throw new InvalidRefreshTokenException("이미 사용된 리프레시 토큰입니다.");
+            }
+            // 회전된 지 유예 시간이 지난 토큰이 다시 사용됨 → 탈취로 간주하고 family 전체 폐기
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+            log.warn("리프레시 토큰 재사용 감지. userId: {}, familyId: {}", token.getUserId(), token.getFamilyId());
+            throw new InvalidRefreshTokenException("이미 사용된 리프레시 토큰입니다.");
+        }
+
+        // 동시에 온 같은 토큰 중 다른 요청이 먼저 사용 처리함 → 재시도와 같게 폐기 없이 실패
+        if (refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            throw new InvalidRefreshTokenException("이미 사용된 리프레시 토큰입니다.");
+        }
+
+        String next = save(token.getUserId(), token.getFamilyId());
+        return new Rotation(token.getUserId(), next);
+    }
+
+    @Override
+    public long getExpirationTimeInSeconds() {
+        return expirationMillis / 1000;
+    }
+
+    // 만료된 토큰 정리 (매시 정각)
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 {}건 삭제", deleted);
+        }
+    }
+
+    private String save(Long userId, UUID familyId) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(TokenDigests.sha256(rawToken))
+                .familyId(familyId)
+                .expiresAt(now.plusNanos(expirationMillis * 1_000_000L))
+                .revoked(false)
+                .createdAt(now)
+                .build());
+        return rawToken;
+    }
+}
@@ -1,12 +1,15 @@
 package com.game.warcry.service.impl;
 
+import com.game.warcry.cache.UserCache;
 import com.game.warcry.model.User;
 import com.game.warcry.repository.UserRepository;
+import com.game.warcry.security.AuthUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections; // 권한이 없는 경우 사용
 
@@ -15,12 +18,19 @@ import java.util.Collections; // 권한이 없는 경우 사용
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
+    // 로그인은 보통 익명 요청이라 read-your-writes 대상이 아니므로, 가입 직후 로그인도 계정을 찾도록
+    // readOnly 가 아닌 트랜잭션으로 프라이머리에서 읽음 (리포지토리의 readOnly 트랜잭션은 여기에 참여)
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("해당 사용자명을 찾을 수 없습니다: " + username));
 
+        // 비밀번호 검증에는 해시가 필요하므로 DB에서 읽고, 읽은 김에 사용자 캐시를 채움
+        userCache.put(user);
+
         // 현재는 권한(authorities) 없이 설정합니다.
         // 만약 User 모델에 역할(Role) 관련 필드가 있고, 이를 사용하려면 다음과 같이 설정할 수 있습니다:
         //
@@ -34,9 +44,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         //         authorities // 설정된 권한 목록
         // );
 
-        return new org.springframework.security.core.userdetails.User(
+        // 로그인 성공 시 토큰에 userId·nickname 클레임을 넣을 수 있도록 함께 전달
+        return new AuthUserDetails(
+                user.getId(),
                 user.getUsername(),
                 user.getPassword(),
+                user.getNickname(),
                 Collections.emptyList() // 현재는 빈 권한 목록을 사용
         );
     }
@@ -0,0 +1,127 @@
+package com.game.warcry.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 트레이스를 OTLP-JSON(ExportTraceServiceRequest) 한 줄로 직렬화해 추적 전용 로거로 씁니다.
+ * 파일 순환과 비동기 출력은 logback-spring.xml 의 TRACE_FILE appender 가 담당하며 (기동 시 tracing.enabled=true 일 때만 생성),
+ * 각 줄은 OTLP/HTTP JSON 수신기나 collector 의 otlpjsonfile 리시버로 그대로 읽을 수 있습니다.
+ */
+public class OtlpJsonExporter {
+
+    static final String LOGGER_NAME = "com.game.warcry.tracing.otlp";
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final Logger out = LoggerFactory.getLogger(LOGGER_NAME);
+    private final String serviceName;
+    private final LongAdder exported = new LongAdder();
+
+    public OtlpJsonExporter(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public void export(RequestTrace trace) {
+        // 트레이스 파일 appender 가 없으면 (기동 시 tracing.enabled=false) 로거가 꺼져 있으므로 직렬화하지 않음
+        if (!out.isInfoEnabled()) {
+            return;
+        }
+        out.info(toJson(trace));
+        exported.increment();
+    }
+
+    public long getExportedCount() {
+        return exported.sum();
+    }
+
+    String toJson(RequestTrace trace) {
+        StringWriter writer = new StringWriter(1024);
+        try (JsonGenerator json = JSON.createGenerator(writer)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("resourceSpans");
+            json.writeStartObject();
+
+            json.writeObjectFieldStart("resource");
+            json.writeArrayFieldStart("attributes");
+            writeAttribute(json, "service.name", serviceName);
+            json.writeEndArray();
+            json.writeEndObject();
+
+            json.writeArrayFieldStart("scopeSpans");
+            json.writeStartObject();
+            json.writeObjectFieldStart("scope");
+            json.writeStringField("name", "com.game.warcry");
+            json.writeEndObject();
+            json.writeArrayFieldStart("spans");
+            for (Span span : trace.spans()) {
+                writeSpan(json, trace, span);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeEndArray();
+
+            json.writeEndObject();
+            json.writeEndArray();
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    private static void writeSpan(JsonGenerator json, RequestTrace trace, Span span) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("traceId", trace.traceId());
+        json.writeStringField("spanId", span.spanId);
+        if (span.parent != null) {
+            json.writeStringField("parentSpanId", span.parent.spanId);
+        }
+        json.writeStringField("name", span.name);
+        json.writeNumberField("kind", switch (span.kind) {
+            case INTERNAL -> 1;
+            case SERVER -> 2;
+            case CLIENT -> 3;
+        });
+        // OTLP-JSON은 64비트 정수를 문자열로 표기
+        json.writeStringField("startTimeUnixNano", Long.toString(trace.startEpochNanos() + span.startNanos));
+        json.writeStringField("endTimeUnixNano", Long.toString(trace.startEpochNanos() + span.endNanos));
+
+        json.writeArrayFieldStart("attributes");
+        if (span.parent == null) {
+            writeAttribute(json, "warcry.correlation_id", trace.correlationId());
+        }
+        for (Map.Entry<String, Object> attribute : span.attributes.entrySet()) {
+            writeAttribute(json, attribute.getKey(), attribute.getValue());
+        }
+        json.writeEndArray();
+
+        json.writeObjectFieldStart("status");
+        json.writeNumberField("code", span.error ? 2 : 1);
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static void writeAttribute(JsonGenerator json, String key, Object value) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("key", key);
+        json.writeObjectFieldStart("value");
+        if (value instanceof Integer || value instanceof Long) {
+            json.writeStringField("intValue", value.toString());
+        } else if (value instanceof Boolean bool) {
+            json.writeBooleanField("boolValue", bool);
+        } else {
+            json.writeStringField("stringValue", String.valueOf(value));
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+}
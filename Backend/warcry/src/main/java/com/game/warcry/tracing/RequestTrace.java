@@ -0,0 +1,106 @@
+package com.game.warcry.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나의 구간 트리. 요청 스레드에서만 접근하므로 동기화하지 않습니다.
+ * DB 시간은 가장 바깥쪽 리포지토리 구간(CLIENT)만 합산합니다. (리포지토리 default 메서드가 다른 메서드를 부르는 경우 중복 제외)
+ */
+public final class RequestTrace {
+
+    private final String traceId;
+    private final String correlationId;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final List<Span> spans = new ArrayList<>();
+    private final Span root;
+    private Span current;
+    private int clientDepth;
+    private long dbNanos;
+
+    RequestTrace(String traceId, String correlationId, String rootName) {
+        this.traceId = traceId;
+        this.correlationId = correlationId;
+        this.startEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        this.startNanoTime = System.nanoTime();
+        this.root = new Span(newSpanId(), null, Span.Kind.SERVER, rootName, 0L);
+        this.spans.add(root);
+        this.current = root;
+    }
+
+    Span open(Span.Kind kind, String name) {
+        Span span = new Span(newSpanId(), current, kind, name, elapsed());
+        spans.add(span);
+        current = span;
+        if (kind == Span.Kind.CLIENT) {
+            clientDepth++;
+        }
+        return span;
+    }
+
+    void close(Span span, boolean error) {
+        span.endNanos = elapsed();
+        span.error = error;
+        current = span.parent != null ? span.parent : root;
+        if (span.kind == Span.Kind.CLIENT && --clientDepth == 0) {
+            dbNanos += span.durationNanos();
+        }
+    }
+
+    void finish(String rootName, boolean error) {
+        root.name = rootName;
+        root.endNanos = elapsed();
+        root.error = error;
+    }
+
+    public Span root() {
+        return root;
+    }
+
+    public List<Span> spans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    public String correlationId() {
+        return correlationId;
+    }
+
+    public long startEpochNanos() {
+        return startEpochNanos;
+    }
+
+    // 지금까지 경과 시간 (응답 본문 직렬화 전 Server-Timing 계산용)
+    public long elapsedNanos() {
+        return elapsed();
+    }
+
+    public long dbNanos() {
+        return dbNanos;
+    }
+
+    private long elapsed() {
+        return System.nanoTime() - startNanoTime;
+    }
+
+    static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return hex(random.nextLong()) + hex(random.nextLong());
+    }
+
+    private static String newSpanId() {
+        return hex(ThreadLocalRandom.current().nextLong());
+    }
+
+    private static String hex(long value) {
+        String s = Long.toHexString(value);
+        return "0".repeat(16 - s.length()) + s;
+    }
+}
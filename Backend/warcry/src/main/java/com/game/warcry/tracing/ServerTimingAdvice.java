@@ -0,0 +1,42 @@
+package com.game.warcry.tracing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * 응답 본문을 쓰기 직전에 Server-Timing 헤더를 추가합니다. (본문을 쓰고 나면 헤더를 바꿀 수 없음)
+ * db = 리포지토리 호출 시간 합, app = 그 외 처리 시간, total = 본문 직렬화 전까지의 요청 처리 시간
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTrace trace = Tracer.current();
+        if (trace != null) {
+            response.getHeaders().set(SERVER_TIMING_HEADER, serverTiming(trace.dbNanos(), trace.elapsedNanos()));
+        }
+        return body;
+    }
+
+    static String serverTiming(long dbNanos, long totalNanos) {
+        return String.format(Locale.ROOT, "db;dur=%.2f, app;dur=%.2f, total;dur=%.2f",
+                dbNanos / 1e6, Math.max(0, totalNanos - dbNanos) / 1e6, totalNanos / 1e6);
+    }
+}
@@ -0,0 +1,52 @@
+package com.game.warcry.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 트리의 구간 하나. 시간은 요청 시작 기준 상대 nanoTime으로 보관합니다.
+ */
+public final class Span {
+
+    public enum Kind {
+        SERVER, INTERNAL, CLIENT
+    }
+
+    final String spanId;
+    final Span parent;
+    final Kind kind;
+    String name;
+    final long startNanos;
+    long endNanos;
+    boolean error;
+    final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    Span(String spanId, Span parent, Kind kind, String name, long startNanos) {
+        this.spanId = spanId;
+        this.parent = parent;
+        this.kind = kind;
+        this.name = name;
+        this.startNanos = startNanos;
+    }
+
+    public Span attribute(String key, Object value) {
+        attributes.put(key, value);
+        return this;
+    }
+
+    public long durationNanos() {
+        return endNanos - startNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Span getParent() {
+        return parent;
+    }
+}
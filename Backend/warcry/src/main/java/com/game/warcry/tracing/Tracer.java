@@ -0,0 +1,27 @@
+package com.game.warcry.tracing;
+
+/**
+ * 현재 요청의 트레이스를 스레드에 보관합니다.
+ * 추적이 꺼져 있으면 요청에 트레이스가 붙지 않으므로 구간 생성 호출은 ThreadLocal 조회 한 번으로 끝납니다.
+ */
+public final class Tracer {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private Tracer() {
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    static RequestTrace begin(String traceId, String correlationId, String rootName) {
+        RequestTrace trace = new RequestTrace(traceId, correlationId, rootName);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.warcry.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 추적 런타임 스위치 (/actuator/tracing).
+ * POST {"enabled": true, "exportThresholdMillis": 100}
+ */
+@Endpoint(id = "tracing")
+public class TracingEndpoint {
+
+    private final TracingSettings settings;
+    private final OtlpJsonExporter exporter;
+
+    public TracingEndpoint(TracingSettings settings, OtlpJsonExporter exporter) {
+        this.settings = settings;
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", settings.isEnabled());
+        result.put("exportThresholdMillis", settings.getExportThreshold().toMillis());
+        result.put("exported", exporter.getExportedCount());
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Boolean enabled, @Nullable Long exportThresholdMillis) {
+        if (exportThresholdMillis != null) {
+            if (exportThresholdMillis < 0) {
+                throw new IllegalArgumentException("exportThresholdMillis는 0 이상이어야 합니다.");
+            }
+            settings.setExportThreshold(Duration.ofMillis(exportThresholdMillis));
+        }
+        if (enabled != null) {
+            settings.setEnabled(enabled);
+        }
+        return settings();
+    }
+}
@@ -0,0 +1,69 @@
+package com.game.warcry.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 트레이스(루트 SERVER 구간)를 시작하고, 끝나면 OTLP-JSON으로 내보냅니다.
+ * 상관관계 ID는 X-Request-Id 요청 헤더를 따르거나 새로 만들며, 응답 헤더와 로그 MDC(traceId, correlationId)에 실립니다.
+ * 추적이 꺼져 있으면 아무 것도 하지 않고 다음 필터로 넘깁니다.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final Pattern SAFE_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final TracingSettings settings;
+    private final OtlpJsonExporter exporter;
+
+    public TracingFilter(TracingSettings settings, OtlpJsonExporter exporter) {
+        this.settings = settings;
+        this.exporter = exporter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!settings.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String traceId = RequestTrace.newTraceId();
+        String requested = request.getHeader(REQUEST_ID_HEADER);
+        String correlationId = requested != null && SAFE_REQUEST_ID.matcher(requested).matches() ? requested : traceId;
+
+        RequestTrace trace = Tracer.begin(traceId, correlationId, request.getMethod() + " " + request.getRequestURI());
+        response.setHeader(REQUEST_ID_HEADER, correlationId);
+        MDC.put("traceId", traceId);
+        MDC.put("correlationId", correlationId);
+        boolean error = true;
+        try {
+            chain.doFilter(request, response);
+            error = response.getStatus() >= 500;
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String routeName = route != null ? route.toString() : request.getRequestURI();
+            trace.root()
+                    .attribute("http.request.method", request.getMethod())
+                    .attribute("http.route", routeName)
+                    .attribute("http.response.status_code", response.getStatus());
+            trace.finish(request.getMethod() + " " + routeName, error);
+            Tracer.clear();
+            MDC.remove("traceId");
+            MDC.remove("correlationId");
+            if (settings.shouldExport(trace.root().durationNanos())) {
+                exporter.export(trace);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.game.warcry.tracing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 서비스 / 리포지토리 메서드 호출을 현재 요청 트레이스의 하위 구간으로 기록합니다.
+ */
+public class TracingInterceptor implements MethodInterceptor {
+
+    private final Span.Kind kind;
+    private final String owner;
+
+    /**
+     * @param owner 구간 이름에 쓸 소유자 이름 (null이면 대상 클래스 이름)
+     */
+    public TracingInterceptor(Span.Kind kind, String owner) {
+        this.kind = kind;
+        this.owner = owner;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestTrace trace = Tracer.current();
+        if (trace == null) {
+            return invocation.proceed();
+        }
+
+        String ownerName = owner != null ? owner
+                : invocation.getThis() != null ? invocation.getThis().getClass().getSimpleName()
+                : invocation.getMethod().getDeclaringClass().getSimpleName();
+        Span span = trace.open(kind, ownerName + "." + invocation.getMethod().getName())
+                .attribute("code.namespace", ownerName)
+                .attribute("code.function", invocation.getMethod().getName());
+        boolean error = true;
+        try {
+            Object result = invocation.proceed();
+            error = false;
+            return result;
+        } finally {
+            trace.close(span, error);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.game.warcry.tracing;
+
+import java.time.Duration;
+
+/**
+ * 추적 런타임 스위치. /actuator/tracing 으로 실행 중에 바꿀 수 있습니다.
+ */
+public class TracingSettings {
+
+    private volatile boolean enabled;
+    private volatile long exportThresholdNanos;
+
+    public TracingSettings(boolean enabled, Duration exportThreshold) {
+        this.enabled = enabled;
+        setExportThreshold(exportThreshold);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getExportThreshold() {
+        return Duration.ofNanos(exportThresholdNanos);
+    }
+
+    // 이 시간보다 짧게 끝난 요청은 파일로 내보내지 않음 (Server-Timing 헤더는 항상 추가)
+    public void setExportThreshold(Duration exportThreshold) {
+        this.exportThresholdNanos = exportThreshold.toNanos();
+    }
+
+    boolean shouldExport(long durationNanos) {
+        return durationNanos >= exportThresholdNanos;
+    }
+}
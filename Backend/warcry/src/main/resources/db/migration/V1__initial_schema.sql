@@ -0,0 +1,90 @@
+-- 초기 스키마 (기존 ddl-auto: update 로 생성된 테이블과 동일한 구조)
+-- 기존 DB에서도 안전하게 실행되도록 IF NOT EXISTS 사용
+
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username   VARCHAR(255) NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    nickname   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS game_servers (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    server_ip    VARCHAR(255) NOT NULL,
+    server_port  INTEGER      NOT NULL,
+    status       VARCHAR(255) NOT NULL CHECK (status IN ('AVAILABLE', 'IN_USE', 'MAINTENANCE')),
+    last_updated TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS matches (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    server_id  BIGINT REFERENCES game_servers (id),
+    title      VARCHAR(255) NOT NULL,
+    is_private BOOLEAN      NOT NULL,
+    password   VARCHAR(255),
+    start_time TIMESTAMP(6),
+    end_time   TIMESTAMP(6),
+    host_ip    VARCHAR(255),
+    host_port  INTEGER
+);
+
+CREATE TABLE IF NOT EXISTS match_users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id  BIGINT       NOT NULL REFERENCES users (id),
+    match_id BIGINT       NOT NULL REFERENCES matches (id),
+    role     VARCHAR(255) NOT NULL CHECK (role IN ('HOST', 'GUEST')),
+    result   VARCHAR(255) NOT NULL CHECK (result IN ('WIN', 'LOSE', 'NONE'))
+);
+
+CREATE TABLE IF NOT EXISTS ratings (
+    user_id                  BIGINT  NOT NULL PRIMARY KEY REFERENCES users (id),
+    point                    INTEGER NOT NULL,
+    tier                     INTEGER NOT NULL,
+    wins                     INTEGER NOT NULL,
+    losses                   INTEGER NOT NULL,
+    placement_matches_played INTEGER NOT NULL,
+    placement_done           BOOLEAN NOT NULL,
+    win_streak               INTEGER NOT NULL,
+    lose_streak              INTEGER NOT NULL,
+    last_match_time          TIMESTAMP(6),
+    version                  BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS rating_history (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT       NOT NULL REFERENCES users (id),
+    match_id     BIGINT       NOT NULL REFERENCES matches (id),
+    point_before INTEGER      NOT NULL,
+    point_after  INTEGER      NOT NULL,
+    point_change INTEGER      NOT NULL,
+    tier_before  INTEGER      NOT NULL,
+    tier_after   INTEGER      NOT NULL,
+    winner       BOOLEAN      NOT NULL,
+    change_time  TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS daily_stats (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT  NOT NULL REFERENCES users (id),
+    date          DATE    NOT NULL,
+    highest_point INTEGER NOT NULL,
+    match_count   INTEGER NOT NULL,
+    win_count     INTEGER NOT NULL,
+    lose_count    INTEGER NOT NULL,
+    UNIQUE (user_id, date)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL,
+    token_hash VARCHAR(43)  NOT NULL,
+    family_id  UUID         NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    used_at    TIMESTAMP(6),
+    revoked    BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_family_id ON refresh_tokens (family_id);
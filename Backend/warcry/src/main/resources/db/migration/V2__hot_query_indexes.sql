@@ -0,0 +1,29 @@
+-- 핫 쿼리용 보조 인덱스
+-- 운영 중인 테이블에 쓰기 잠금을 걸지 않도록 CONCURRENTLY 로 생성 (Flyway가 트랜잭션 밖에서 실행)
+
+-- 로비 목록의 호스트 조회 / 매치 참가자 조회 (findByMatchAndRole, findByMatchAndUser)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_match_users_match_role ON match_users (match_id, role);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_match_users_match_user ON match_users (match_id, user_id);
+
+-- 리더보드 / 순위 계산 (ORDER BY point DESC, point > ?)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_ratings_point ON ratings (point);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_ratings_tier_point ON ratings (tier, point);
+
+-- 전적 페이지 (user_id = ? ORDER BY change_time DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_rating_history_user_time ON rating_history (user_id, change_time);
+
+-- 일일 랭크 통계 (date = ? ORDER BY highest_point DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_daily_stats_date_point ON daily_stats (date, highest_point);
+
+-- Listen 서버 IP/PORT 중복 확인
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_matches_host ON matches (host_ip, host_port);
+
+-- 열린 매치만 담는 부분 인덱스 (종료된 매치가 쌓여도 크기가 늘지 않음)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_matches_waiting ON matches (is_private, id) WHERE start_time IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_matches_playing ON matches (id) WHERE start_time IS NOT NULL AND end_time IS NULL;
+
+-- 사용 가능한 게임 서버 할당 (status = 'AVAILABLE' ORDER BY id LIMIT 1)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_game_servers_available ON game_servers (id) WHERE status = 'AVAILABLE';
+
+-- 만료된 리프레시 토큰 정리
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_refresh_tokens_expires_at ON refresh_tokens (expires_at);
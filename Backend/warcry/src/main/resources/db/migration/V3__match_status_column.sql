@@ -0,0 +1,13 @@
+-- 매치 상태를 컬럼으로 저장 (기존 행은 start_time/end_time 으로 채움)
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS status VARCHAR(16);
+
+UPDATE matches
+SET status = CASE
+                 WHEN end_time IS NOT NULL THEN 'ENDED'
+                 WHEN start_time IS NOT NULL THEN 'PLAYING'
+                 ELSE 'WAITING'
+             END
+WHERE status IS NULL;
+
+ALTER TABLE matches ALTER COLUMN status SET NOT NULL;
+ALTER TABLE matches ADD CONSTRAINT ck_matches_status CHECK (status IN ('WAITING', 'PLAYING', 'ENDED'));
@@ -0,0 +1,13 @@
+-- 로비 조회용 부분 인덱스: WAITING 행만, 전용 서버 / Listen 서버 매치를 분리
+-- 종료된 매치가 수백만 건 쌓여도 인덱스 크기는 열린 매치 수에 비례
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_matches_waiting_dedicated ON matches (is_private, id)
+    WHERE status = 'WAITING' AND host_ip IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_matches_waiting_listen ON matches (is_private, id)
+    WHERE status = 'WAITING' AND host_ip IS NOT NULL;
+
+-- 그 외 상태 필터 (PLAYING / ENDED)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_matches_status ON matches (status, id);
+
+-- start_time/end_time 기준 부분 인덱스는 status 컬럼으로 대체
+DROP INDEX CONCURRENTLY IF EXISTS ix_matches_waiting;
+DROP INDEX CONCURRENTLY IF EXISTS ix_matches_playing;
@@ -0,0 +1,11 @@
+-- 로비 부분 인덱스를 Match.isListenServer() 와 같은 매치 종류 기준으로 재생성
+-- (Listen 서버 = host_ip 와 host_port 가 모두 있는 매치, 나머지는 전용 서버 매치)
+-- 로비는 항상 id 순이므로 키는 id 만 두고, is_private 필터 유무와 관계없이 정렬 없이 앞에서부터 읽음
+-- 새 인덱스를 먼저 만든 뒤 이전 인덱스를 지워 인덱스가 없는 구간을 두지 않음
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_matches_lobby_dedicated ON matches (id)
+    WHERE status = 'WAITING' AND (host_ip IS NULL OR host_port IS NULL);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_matches_lobby_listen ON matches (id)
+    WHERE status = 'WAITING' AND host_ip IS NOT NULL AND host_port IS NOT NULL;
+
+DROP INDEX CONCURRENTLY IF EXISTS ix_matches_waiting_dedicated;
+DROP INDEX CONCURRENTLY IF EXISTS ix_matches_waiting_listen;
@@ -0,0 +1,31 @@
+-- IDENTITY 컬럼을 pooled 시퀀스로 전환 (allocationSize = 50, JDBC 배치 INSERT 가능)
+-- Hibernate pooled 옵티마이저는 nextval 값을 구간의 상한으로 사용하므로 (값-49 ~ 값),
+-- 시퀀스 시작값을 기존 최대 id + 50 으로 맞춰 기존 행과 겹치지 않게 함
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE(MAX(id), 0) + 50, false) FROM users;
+
+ALTER TABLE game_servers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS game_servers_seq INCREMENT BY 50;
+SELECT setval('game_servers_seq', COALESCE(MAX(id), 0) + 50, false) FROM game_servers;
+
+ALTER TABLE matches ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS matches_seq INCREMENT BY 50;
+SELECT setval('matches_seq', COALESCE(MAX(id), 0) + 50, false) FROM matches;
+
+ALTER TABLE match_users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS match_users_seq INCREMENT BY 50;
+SELECT setval('match_users_seq', COALESCE(MAX(id), 0) + 50, false) FROM match_users;
+
+ALTER TABLE rating_history ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS rating_history_seq INCREMENT BY 50;
+SELECT setval('rating_history_seq', COALESCE(MAX(id), 0) + 50, false) FROM rating_history;
+
+ALTER TABLE daily_stats ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS daily_stats_seq INCREMENT BY 50;
+SELECT setval('daily_stats_seq', COALESCE(MAX(id), 0) + 50, false) FROM daily_stats;
+
+ALTER TABLE refresh_tokens ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS refresh_tokens_seq INCREMENT BY 50;
+SELECT setval('refresh_tokens_seq', COALESCE(MAX(id), 0) + 50, false) FROM refresh_tokens;
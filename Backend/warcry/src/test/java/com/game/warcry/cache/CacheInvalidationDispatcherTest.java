@@ -0,0 +1,58 @@
+package com.game.warcry.cache;
+
+import com.game.warcry.dto.rank.TierDistributionResponse;
+import com.game.warcry.service.RankService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 트랜잭션이 커밋되면 이 인스턴스의 요청 병합 결과가 TTL 전에 버려지는지 확인합니다.
+ * 인스턴스 간 무효화(cache-invalidation.enabled)는 꺼진 기본 설정으로 실행합니다.
+ * 병합된 결과는 같은 객체로 재사용되므로 객체 동일성으로 재사용 여부를 판별합니다 (티어 분포 TTL 5초).
+ */
+@SpringBootTest(properties = "coalescing.max-ttl=1m")
+class CacheInvalidationDispatcherTest {
+
+    @Autowired private CacheInvalidationDispatcher dispatcher;
+    @Autowired private RankService rankService;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void committedChangeDropsSharedResultAfterCommit() {
+        TierDistributionResponse before = rankService.getTierDistribution();
+        assertThat(rankService.getTierDistribution()).isSameAs(before);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            dispatcher.invalidate(CacheInvalidation.rank());
+            // 커밋 전에는 아직 공유 결과 유지
+            assertThat(rankService.getTierDistribution()).isSameAs(before);
+        });
+
+        assertThat(rankService.getTierDistribution()).isNotSameAs(before);
+    }
+
+    @Test
+    void rolledBackChangeKeepsSharedResult() {
+        TierDistributionResponse before = rankService.getTierDistribution();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            dispatcher.invalidate(CacheInvalidation.rank());
+            status.setRollbackOnly();
+        });
+
+        assertThat(rankService.getTierDistribution()).isSameAs(before);
+    }
+
+    @Test
+    void invalidationOutsideTransactionAppliesImmediately() {
+        TierDistributionResponse before = rankService.getTierDistribution();
+
+        dispatcher.invalidate(CacheInvalidation.rank());
+
+        assertThat(rankService.getTierDistribution()).isNotSameAs(before);
+    }
+}
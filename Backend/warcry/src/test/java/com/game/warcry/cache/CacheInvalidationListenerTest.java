@@ -0,0 +1,43 @@
+package com.game.warcry.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신한 무효화 메시지의 디코딩 테스트 (DB 연결 없이 handle 만 호출).
+ * 알 수 없는 항목은 건너뛰고 실패로 집계하되, 같은 메시지의 나머지 항목은 적용되는지 확인합니다.
+ */
+class CacheInvalidationListenerTest {
+
+    private final List<CacheInvalidation> applied = new ArrayList<>();
+    private final CacheInvalidationListener listener = new CacheInvalidationListener(
+            () -> {
+                throw new SQLException("테스트에서는 연결하지 않음");
+            },
+            "warcry_cache_invalidation", "self", applied::add,
+            Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMillis(100));
+
+    @Test
+    void unknownPartIsSkippedAndRestIsApplied() {
+        listener.handle("other" + CacheInvalidationPublisher.NODE_SEPARATOR + "u:3,x:9,l,u:abc,n:alice");
+
+        assertThat(applied).containsExactly(
+                CacheInvalidation.user(3L), CacheInvalidation.lobby(), CacheInvalidation.username("alice"));
+        assertThat(listener.getReceivedCount()).isEqualTo(1);
+        assertThat(listener.getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void ownMessageIsIgnored() {
+        listener.handle("self" + CacheInvalidationPublisher.NODE_SEPARATOR + "l");
+
+        assertThat(applied).isEmpty();
+        assertThat(listener.getIgnoredCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.game.warcry.cache;
+
+import com.game.warcry.model.User;
+import com.game.warcry.repository.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 인스턴스 간 캐시 무효화 테스트.
+ * 테스트 안에서 별도 수신기를 하나 더 띄워 "다른 인스턴스"로 사용합니다.
+ * 커밋된 트랜잭션의 변경만 한 번씩 전달되고, 다른 인스턴스가 보낸 메시지는 로컬 캐시에 적용되는지 확인합니다
+ * (가입된 username 은 username Bloom 필터에 추가).
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "cache-invalidation.enabled=true"
+})
+class CacheInvalidationTest {
+
+    private static final String CHANNEL = "warcry_cache_invalidation";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private CacheInvalidationPublisher publisher;
+    @Autowired private CacheInvalidationListener listener;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private UsernameBloomFilter usernameBloomFilter;
+
+    private final BlockingQueue<CacheInvalidation> received = new LinkedBlockingQueue<>();
+    private CacheInvalidationListener otherNode;
+
+    @BeforeEach
+    void startOtherNode() throws InterruptedException {
+        otherNode = new CacheInvalidationListener(
+                () -> DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()),
+                CHANNEL, "other", received::add,
+                Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMillis(200));
+        otherNode.start();
+        waitUntil(() -> otherNode.isListening() && listener.isListening());
+    }
+
+    @AfterEach
+    void stopOtherNode() throws InterruptedException {
+        otherNode.close();
+    }
+
+    @Test
+    void committedChangesAreDeliveredOnceToOtherNodes() throws InterruptedException {
+        long ignoredBefore = listener.getIgnoredCount();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(CacheInvalidation.lobby());
+            publisher.publish(CacheInvalidation.gameServer(7L));
+            publisher.publish(CacheInvalidation.lobby());
+        });
+
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo(CacheInvalidation.lobby());
+        assertThat(received.poll(5, TimeUnit.SECONDS)).isEqualTo(CacheInvalidation.gameServer(7L));
+        assertThat(received.poll(500, TimeUnit.MILLISECONDS)).isNull();
+        // 보낸 인스턴스는 자기 메시지를 건너뜀
+        waitUntil(() -> listener.getIgnoredCount() > ignoredBefore);
+    }
+
+    @Test
+    void rolledBackChangesAreNotDelivered() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(CacheInvalidation.rank());
+            status.setRollbackOnly();
+        });
+
+        assertThat(received.poll(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void remoteUserChangeEvictsSecondLevelCache() throws InterruptedException {
+        User user = userRepository.save(User.builder().username("invalidation").password("x").nickname("invalidation").build());
+        userRepository.findById(user.getId());
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(User.class, user.getId())).isTrue();
+
+        // 다른 인스턴스가 보낸 것과 같은 메시지
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSet rs) -> null, CHANNEL,
+                "other" + CacheInvalidationPublisher.NODE_SEPARATOR + CacheInvalidation.user(user.getId()).encode());
+
+        waitUntil(() -> !cache.contains(User.class, user.getId()));
+        assertThat(received.poll(500, TimeUnit.MILLISECONDS)).isNull(); // "other" 자신은 건너뜀
+    }
+
+    @Test
+    void remoteSignupAddsUsernameToBloomFilter() throws InterruptedException {
+        waitUntil(usernameBloomFilter::isReady);
+        String username = "remote-" + UUID.randomUUID().toString().substring(0, 8);
+
+        // 다른 인스턴스의 가입 (이 인스턴스의 DB 조회 없이 필터에 반영되어야 함)
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSet rs) -> null, CHANNEL,
+                "other" + CacheInvalidationPublisher.NODE_SEPARATOR + CacheInvalidation.username(username).encode());
+
+        waitUntil(() -> usernameBloomFilter.mightContain(username));
+    }
+
+    @Test
+    void usernameSurvivesPayloadSeparators() {
+        List<CacheInvalidation> invalidations = List.of(
+                CacheInvalidation.username("a,b|c:d%e 전사"), CacheInvalidation.user(3L), CacheInvalidation.lobby());
+
+        String encoded = CacheInvalidation.encodeAll(invalidations);
+
+        assertThat(encoded).isASCII().doesNotContain(String.valueOf(CacheInvalidationPublisher.NODE_SEPARATOR));
+        assertThat(CacheInvalidation.decodeAll(encoded)).containsExactlyElementsOf(invalidations);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("5초 안에 조건을 만족해야 함").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
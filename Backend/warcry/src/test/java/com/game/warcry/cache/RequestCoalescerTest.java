@@ -0,0 +1,93 @@
+package com.game.warcry.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * single-flight 실행기 테스트.
+ * 동시에 들어온 같은 키 호출은 한 번만 실행되고, TTL/예외 처리에 따라 재사용 여부가 달라지는지 확인합니다.
+ */
+class RequestCoalescerTest {
+
+    @Test
+    void concurrentIdenticalCallsShareOneExecution() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ZERO, 100);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        return coalescer.execute(List.of("leaderboard", 0), () -> {
+                            executions.incrementAndGet();
+                            release.await();
+                            return "page-0";
+                        });
+                    } catch (Throwable t) {
+                        throw new IllegalStateException(t);
+                    }
+                }));
+            }
+            // 나머지 호출이 모두 실행 중인 결과를 기다리게 된 뒤 완료
+            for (int i = 0; i < 500 && coalescer.getJoinedCount() < callers - 1; i++) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (Future<Object> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("page-0");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(executions).hasValue(1);
+        assertThat(coalescer.getExecutedCount()).isEqualTo(1);
+        assertThat(coalescer.getJoinedCount()).isEqualTo(callers - 1);
+        assertThat(coalescer.coalescingRatio()).isEqualTo((callers - 1) / (double) callers);
+    }
+
+    @Test
+    void completedResultIsReusedOnlyWithinTtl() throws Throwable {
+        AtomicInteger executions = new AtomicInteger();
+        RequestCoalescer.Call call = executions::incrementAndGet;
+
+        RequestCoalescer withTtl = new RequestCoalescer(Duration.ofMinutes(1), 100);
+        withTtl.execute("tiers", call);
+        assertThat(withTtl.execute("tiers", call)).isEqualTo(1);
+        assertThat(withTtl.getReusedCount()).isEqualTo(1);
+
+        RequestCoalescer withoutTtl = new RequestCoalescer(Duration.ZERO, 100);
+        withoutTtl.execute("tiers", call);
+        assertThat(withoutTtl.execute("tiers", call)).isEqualTo(3);
+        assertThat(withoutTtl.getReusedCount()).isZero();
+    }
+
+    @Test
+    void failureIsNotShared() throws Throwable {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofMinutes(1), 100);
+
+        assertThatThrownBy(() -> coalescer.execute("detail", () -> {
+            throw new IllegalArgumentException("매치를 찾을 수 없습니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(coalescer.execute("detail", () -> "found")).isEqualTo("found");
+        assertThat(coalescer.getExecutedCount()).isEqualTo(2);
+    }
+}
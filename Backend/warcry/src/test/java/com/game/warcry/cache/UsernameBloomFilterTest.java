@@ -0,0 +1,125 @@
+package com.game.warcry.cache;
+
+import com.game.warcry.dto.SignupRequest;
+import com.game.warcry.model.User;
+import com.game.warcry.repository.UserRepository;
+import com.game.warcry.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * username Bloom 필터 테스트.
+ * 로딩 전/비권위 모드에서는 항상 DB로 확인하고, "있을 수 있음" 답은 DB 확인 결과로 기록되며,
+ * 오탐은 DB가 걸러 내고 오탐률로 집계되는지 확인합니다.
+ */
+@SpringBootTest
+class UsernameBloomFilterTest {
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private AuthService authService;
+
+    @Test
+    void notReadyFilterAlwaysDefersToDatabase() {
+        UsernameBloomFilter filter = new UsernameBloomFilter(userRepository, transactionManager, 1000, 0.01, true);
+
+        // 로딩 전에는 "있을 수 있음" → 호출자가 DB로 확인
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain(uniqueName())).isTrue();
+        // 로딩 전 확인 결과는 오탐률 집계에 넣지 않음
+        filter.recordConfirmation(false);
+        assertThat(filter.getProbableHits()).isZero();
+        assertThat(filter.getFalsePositives()).isZero();
+        assertThat(filter.getDefiniteMisses()).isZero();
+    }
+
+    @Test
+    void nonAuthoritativeFilterIsNeverUsed() {
+        UsernameBloomFilter filter = new UsernameBloomFilter(userRepository, transactionManager, 1000, 0.01, false);
+
+        filter.loadAsync();
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain(uniqueName())).isTrue();
+    }
+
+    @Test
+    void nonAuthoritativeFilterAllocatesNoBits() {
+        // 권위 모드였다면 비트 배열 크기가 int 범위를 넘어 생성이 실패했을 설정값
+        UsernameBloomFilter filter = new UsernameBloomFilter(userRepository, transactionManager, 1_000_000_000_000L, 0.01, false);
+
+        filter.put(uniqueName());
+
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+        assertThat(filter.mightContain(uniqueName())).isTrue();
+    }
+
+    @Test
+    void existingUsernameIsConfirmedByDatabase() {
+        UsernameBloomFilter filter = new UsernameBloomFilter(userRepository, transactionManager, 1000, 0.01, true);
+        User user = saveUser(uniqueName());
+        filter.load();
+
+        assertThat(filter.mightContain(user.getUsername())).isTrue();
+        filter.recordConfirmation(userRepository.existsByUsername(user.getUsername()));
+
+        assertThat(filter.getProbableHits()).isEqualTo(1);
+        assertThat(filter.getFalsePositives()).isZero();
+    }
+
+    @Test
+    void falsePositiveIsCaughtByDatabaseAndCounted() {
+        // 64비트에 많이 넣어 거의 모든 비트가 켜진 필터 → 없는 이름도 "있을 수 있음"
+        UsernameBloomFilter filter = new UsernameBloomFilter(userRepository, transactionManager, 1, 0.5, true);
+        filter.load();
+        for (int i = 0; i < 1000; i++) {
+            filter.put("filler-" + i);
+        }
+        String ghost = uniqueName();
+
+        assertThat(filter.mightContain(ghost)).isTrue();
+        boolean exists = userRepository.existsByUsername(ghost);
+        filter.recordConfirmation(exists);
+
+        assertThat(exists).isFalse();
+        assertThat(filter.getFalsePositives()).isEqualTo(1);
+        assertThat(filter.observedFalsePositiveRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void definiteMissSkipsDatabaseAndSignupIsReflected() {
+        // 넉넉한 크기 (테스트 DB의 유저 수 대비 오탐이 사실상 없도록)
+        UsernameBloomFilter filter = new UsernameBloomFilter(userRepository, transactionManager, 1_000_000, 0.0001, true);
+        filter.load();
+        String name = uniqueName();
+
+        assertThat(filter.mightContain(name)).isFalse();
+        assertThat(filter.getDefiniteMisses()).isEqualTo(1);
+
+        filter.put(name);
+        assertThat(filter.mightContain(name)).isTrue();
+    }
+
+    @Test
+    void signedUpUsernameIsReportedAsTaken() {
+        String name = uniqueName();
+        authService.signup(new SignupRequest(name, "password", name));
+
+        assertThat(authService.existsByUsername(name)).isTrue();
+        assertThat(authService.existsByUsername(uniqueName())).isFalse();
+    }
+
+    private User saveUser(String name) {
+        return userRepository.save(User.builder().username(name).password("x").nickname(name).build());
+    }
+
+    private static String uniqueName() {
+        return "bloom-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,65 @@
+package com.game.warcry.config;
+
+import com.game.warcry.security.jwt.JWTUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리 엔드포인트 접근 제어 테스트.
+ * health / prometheus 만 토큰 없이 열려 있고, 나머지(로그 레벨 변경 등)는 관리자 유저 ID의 토큰만 호출할 수 있는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "security.admin-user-ids=900001",
+        "management.endpoints.web.exposure.include=health,prometheus,loggers"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability // 테스트에서도 prometheus 엔드포인트 생성
+class ActuatorSecurityTest {
+
+    private static final long ADMIN_ID = 900001L;
+    private static final long PLAYER_ID = 900002L;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JWTUtil jwtUtil;
+
+    @Test
+    void healthAndPrometheusArePublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk());
+    }
+
+    @Test
+    void otherEndpointsRequireToken() throws Exception {
+        mockMvc.perform(get("/actuator/loggers")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void playerTokenCannotChangeLogLevels() throws Exception {
+        mockMvc.perform(post("/actuator/loggers/com.game.warcry")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(PLAYER_ID, "player"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"configuredLevel\": \"TRACE\"}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminTokenCanReadLoggers() throws Exception {
+        mockMvc.perform(get("/actuator/loggers")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_ID, "admin")))
+                .andExpect(status().isOk());
+    }
+
+    private String bearer(long userId, String username) {
+        return "Bearer " + jwtUtil.generate(userId, username, username);
+    }
+}
@@ -0,0 +1,126 @@
+package com.game.warcry.datasource;
+
+import com.game.warcry.service.impl.UserDetailsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 인메모리 DB(프라이머리/레플리카)로 라우팅 규칙을 확인합니다.
+ * 각 DB의 db_role 테이블에 저장된 이름으로 어느 쪽에서 읽었는지 판별합니다.
+ * 두 DB 사이에 복제는 없으므로 프라이머리에만 쓴 행은 복제 지연 중인 상태와 같습니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 1000);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, tracker, currentUser::get));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(roleIn(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionAndNonTransactionalAccessGoToPrimary() {
+        assertThat(roleIn(readWrite)).isEqualTo("primary");
+        assertThat(role()).isEqualTo("primary");
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryAfterCommit() {
+        currentUser.set(1L);
+        assertThat(roleIn(readOnly)).isEqualTo("replica");
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE db_role SET touched = touched + 1"));
+
+        // 같은 유저는 윈도우 동안 프라이머리, 다른 유저는 계속 레플리카
+        assertThat(roleIn(readOnly)).isEqualTo("primary");
+        currentUser.set(2L);
+        assertThat(roleIn(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotMakeUserSticky() {
+        currentUser.set(3L);
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE db_role SET touched = touched + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(roleIn(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void anonymousLoginRightAfterSignupReadsCredentialsFromPrimary() throws NoSuchMethodException {
+        // 익명 가입: 쓰기 트랜잭션 → 프라이머리 (레플리카에는 아직 복제되지 않음)
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO accounts VALUES ('newbie')"));
+
+        // 리포지토리의 readOnly 트랜잭션만으로 조회하면 레플리카로 가서 방금 가입한 계정을 못 찾음
+        assertThat(existsIn(readOnly, "newbie")).isFalse();
+
+        // 로그인 조회는 readOnly 가 아닌 트랜잭션 안에서 리포지토리를 호출 → 참여한 readOnly 는 라우팅에 영향 없음
+        Boolean joined = readWrite.execute(status -> existsIn(readOnly, "newbie"));
+        assertThat(joined).isTrue();
+        Transactional transactional = UserDetailsServiceImpl.class
+                .getMethod("loadUserByUsername", String.class).getAnnotation(Transactional.class);
+        assertThat(transactional).isNotNull();
+        assertThat(transactional.readOnly()).isFalse();
+    }
+
+    private String roleIn(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> role());
+    }
+
+    private Boolean existsIn(TransactionTemplate transactionTemplate, String username) {
+        return transactionTemplate.execute(status -> accountExists(username));
+    }
+
+    private boolean accountExists(String username) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounts WHERE username = ?", Integer.class, username) > 0;
+    }
+
+    private String role() {
+        return jdbcTemplate.queryForObject("SELECT name FROM db_role", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS db_role (name VARCHAR(16), touched INT)");
+        jdbc.update("DELETE FROM db_role");
+        jdbc.update("INSERT INTO db_role VALUES (?, 0)", name);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS accounts (username VARCHAR(32))");
+        jdbc.update("DELETE FROM accounts");
+        return dataSource;
+    }
+}
@@ -0,0 +1,104 @@
+package com.game.warcry.diagnostics;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JFR 덤프 엔드포인트의 관리자 검사, 재요청 간격, 보관 파일 수 제한을 확인합니다.
+ */
+class FlightRecorderEndpointTest {
+
+    private static final String RECORDING_NAME = "warcry-endpoint-test";
+
+    @TempDir
+    Path dumpDirectory;
+
+    private Recording recording;
+
+    @BeforeEach
+    void startRecording() {
+        recording = new Recording();
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.start();
+    }
+
+    @AfterEach
+    void stopRecording() {
+        recording.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void nonAdminIsRejected() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("player", null));
+
+        assertThatThrownBy(() -> endpoint(10, Duration.ZERO).dump(1)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> {
+            SecurityContextHolder.clearContext();
+            endpoint(10, Duration.ZERO).dump(1);
+        }).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void onlyNewestDumpsAreRetained() throws Exception {
+        actAsAdmin();
+        for (int i = 0; i < 3; i++) {
+            Path old = Files.createFile(dumpDirectory.resolve("warcry-old-" + i + ".jfr"));
+            Files.setLastModifiedTime(old, FileTime.from(Instant.now().minusSeconds(3600 - i)));
+        }
+        Path unrelated = Files.createFile(dumpDirectory.resolve("notes.txt"));
+
+        WebEndpointResponse<Map<String, Object>> response = endpoint(2, Duration.ZERO).dump(1);
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(jfrFiles()).hasSize(2)
+                .contains(Path.of((String) response.getBody().get("file")).getFileName().toString(), "warcry-old-2.jfr");
+        assertThat(unrelated).exists();
+    }
+
+    @Test
+    void repeatedDumpWithinIntervalIsThrottled() throws Exception {
+        actAsAdmin();
+        FlightRecorderEndpoint endpoint = endpoint(10, Duration.ofMinutes(1));
+
+        assertThat(endpoint.dump(1).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(endpoint.dump(1).getStatus()).isEqualTo(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        assertThat(jfrFiles()).hasSize(1);
+    }
+
+    private FlightRecorderEndpoint endpoint(int maxRetainedDumps, Duration minInterval) {
+        return new FlightRecorderEndpoint(RECORDING_NAME, dumpDirectory, 1, 30, maxRetainedDumps, minInterval);
+    }
+
+    private static void actAsAdmin() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("admin", null, "ROLE_ADMIN"));
+    }
+
+    private List<String> jfrFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            return files.map(file -> file.getFileName().toString()).filter(name -> name.endsWith(".jfr")).toList();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.game.warcry.diagnostics;
+
+import com.game.warcry.dto.match.MatchCreateRequest;
+import com.game.warcry.dto.match.MatchJoinRequest;
+import com.game.warcry.dto.match.MatchResultRequest;
+import com.game.warcry.model.GameServer;
+import com.game.warcry.model.Rating;
+import com.game.warcry.model.User;
+import com.game.warcry.repository.GameServerRepository;
+import com.game.warcry.repository.RatingRepository;
+import com.game.warcry.repository.UserRepository;
+import com.game.warcry.service.MatchService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매치 생성 → 참가 → 결과 저장 흐름에서 JFR 이벤트가 매치 ID / SQL 수와 함께 기록되는지 확인합니다.
+ */
+@SpringBootTest
+class MatchJfrEventsTest {
+
+    @Autowired private MatchService matchService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RatingRepository ratingRepository;
+    @Autowired private GameServerRepository gameServerRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void matchLifecycleEmitsEvents() throws Exception {
+        User host = saveUserWithRating("jfr-host");
+        User guest = saveUserWithRating("jfr-guest");
+        gameServerRepository.save(GameServer.builder()
+                .serverIp("127.0.0.1")
+                .serverPort(9100)
+                .status(GameServer.ServerStatus.AVAILABLE)
+                .lastUpdated(LocalDateTime.now())
+                .build());
+
+        long matchId;
+        Path file = tempDir.resolve("match.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.game.warcry.MatchLifecycle");
+            recording.enable("com.game.warcry.ServerAllocation");
+            recording.enable("com.game.warcry.RatingUpdate");
+            recording.start();
+
+            matchId = matchService.createMatch(host.getId(),
+                    MatchCreateRequest.builder().title("jfr").isPrivate(false).build()).getMatchId();
+            matchService.joinMatch(matchId, guest.getId(), new MatchJoinRequest());
+            matchService.saveMatchResult(matchId, host.getId(), MatchResultRequest.builder()
+                    .results(List.of(
+                            new MatchResultRequest.PlayerResult("HOST", "WIN"),
+                            new MatchResultRequest.PlayerResult("GUEST", "LOSE")))
+                    .build());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        List<RecordedEvent> lifecycle = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.game.warcry.MatchLifecycle"))
+                .filter(e -> e.getLong("matchId") == matchId)
+                .toList();
+        assertThat(lifecycle).extracting(e -> e.getString("operation"))
+                .containsExactlyInAnyOrder("create", "join", "result");
+        assertThat(lifecycle).allSatisfy(e -> {
+            assertThat(e.getBoolean("committed")).isTrue();
+            assertThat(e.getInt("queryCount")).isPositive();
+            assertThat(e.getString("serverKind")).isEqualTo("dedicated");
+        });
+
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals("com.game.warcry.ServerAllocation"))
+                .anySatisfy(e -> assertThat(e.getBoolean("found")).isTrue());
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals("com.game.warcry.RatingUpdate"))
+                .anySatisfy(e -> {
+                    assertThat(e.getLong("matchId")).isEqualTo(matchId);
+                    assertThat(e.getInt("winners")).isEqualTo(1);
+                    assertThat(e.getInt("losers")).isEqualTo(1);
+                });
+    }
+
+    private User saveUserWithRating(String prefix) {
+        String name = prefix + System.nanoTime();
+        User user = userRepository.save(User.builder().username(name).password("x").nickname(name).build());
+        // @MapsId 의 user 는 영속 상태여야 하므로 한 트랜잭션 안에서 저장
+        transactionTemplate.executeWithoutResult(status ->
+                ratingRepository.save(Rating.initializeRating(userRepository.getReferenceById(user.getId()))));
+        return user;
+    }
+}
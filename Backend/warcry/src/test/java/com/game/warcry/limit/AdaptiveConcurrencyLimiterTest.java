@@ -0,0 +1,100 @@
+package com.game.warcry.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 처리 한도 테스트.
+ * 우선순위별 진입 비율과, 지연 증가/회복에 따른 한도 조정을 확인합니다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = 5_000_000L;  // 5ms
+    private static final long SLOW = 50_000_000L; // 50ms
+
+    @Test
+    void lowerPriorityIsShedFirst() {
+        AdaptiveConcurrencyLimiter limiter = newLimiter(10);
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.POLLING)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.POLLING)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isFalse();
+
+        assertThat(limiter.getInflight()).isEqualTo(10);
+        assertThat(limiter.getRejectedCount(RequestPriority.POLLING)).isEqualTo(1);
+        assertThat(limiter.getRejectedCount(RequestPriority.NORMAL)).isEqualTo(1);
+        assertThat(limiter.getRejectedCount(RequestPriority.CRITICAL)).isEqualTo(1);
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRisesAndRecovers() {
+        AdaptiveConcurrencyLimiter limiter = newLimiter(20);
+        runWindow(limiter, FAST); // 기준 지연
+        runWindow(limiter, FAST);
+        int steady = limiter.getLimit();
+        assertThat(steady).isGreaterThanOrEqualTo(20);
+
+        for (int i = 0; i < 10; i++) {
+            runWindow(limiter, SLOW);
+        }
+        int congested = limiter.getLimit();
+        assertThat(congested).isLessThan(steady).isGreaterThanOrEqualTo(4);
+
+        for (int i = 0; i < 10; i++) {
+            runWindow(limiter, FAST);
+        }
+        assertThat(limiter.getLimit()).isGreaterThan(congested);
+    }
+
+    @Test
+    void idleLimiterDoesNotGrow() {
+        AdaptiveConcurrencyLimiter limiter = newLimiter(20);
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isTrue();
+            limiter.release(FAST);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void classifiesResultAndRefreshAheadOfPolling() {
+        assertThat(RequestPriority.classify("POST", "/api/match/12/result")).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(RequestPriority.classify("POST", "/api/listen/match/12/result")).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(RequestPriority.classify("POST", "/api/auth/refresh")).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(RequestPriority.classify("GET", "/api/match")).isEqualTo(RequestPriority.POLLING);
+        assertThat(RequestPriority.classify("GET", "/api/rank/leaderboard")).isEqualTo(RequestPriority.POLLING);
+        assertThat(RequestPriority.classify("POST", "/api/match")).isEqualTo(RequestPriority.NORMAL);
+        assertThat(RequestPriority.classify("POST", "/api/match/12/join")).isEqualTo(RequestPriority.NORMAL);
+    }
+
+    private static AdaptiveConcurrencyLimiter newLimiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 4, 100, 10, Map.of(
+                RequestPriority.CRITICAL, 1.0,
+                RequestPriority.NORMAL, 0.9,
+                RequestPriority.POLLING, 0.7));
+    }
+
+    // 한도까지 채운 뒤 모두 같은 지연으로 완료 (window-size 이상 완료되도록 반복)
+    private static void runWindow(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int completed = 0;
+        while (completed < 10) {
+            int acquired = 0;
+            while (limiter.tryAcquire(RequestPriority.CRITICAL)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos);
+            }
+            completed += acquired;
+        }
+    }
+}
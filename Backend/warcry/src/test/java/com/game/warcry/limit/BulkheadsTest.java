@@ -0,0 +1,63 @@
+package com.game.warcry.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 트래픽 등급별 벌크헤드 테스트.
+ * 한 등급이 가득 차도 다른 등급은 자리를 얻고, 중첩 호출은 바깥 등급을 그대로 쓰는지 확인합니다.
+ */
+class BulkheadsTest {
+
+    @Test
+    void fullRankBulkheadDoesNotBlockResultWrites() throws Exception {
+        Bulkheads bulkheads = newBulkheads();
+        Bulkhead rank = bulkheads.get(TrafficClass.RANK_READ);
+        assertThat(rank.tryAcquire()).isTrue();
+        assertThat(rank.tryAcquire()).isTrue();
+
+        assertThatThrownBy(() -> bulkheads.enter(TrafficClass.RANK_READ))
+                .isInstanceOf(BulkheadFullException.class)
+                .satisfies(e -> assertThat(((BulkheadFullException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(1)));
+        assertThat(rank.getRejectedCount()).isEqualTo(1);
+
+        Bulkhead entered = bulkheads.enter(TrafficClass.RESULT_WRITE);
+        try {
+            assertThat(entered.getTrafficClass()).isEqualTo(TrafficClass.RESULT_WRITE);
+            assertThat(Bulkheads.currentStatementTimeoutSeconds()).isEqualTo(10);
+        } finally {
+            Bulkheads.exit(entered);
+        }
+        assertThat(Bulkheads.currentStatementTimeoutSeconds()).isZero();
+    }
+
+    @Test
+    void nestedCallKeepsOuterBulkhead() throws Exception {
+        Bulkheads bulkheads = newBulkheads();
+
+        Bulkhead outer = bulkheads.enter(TrafficClass.RESULT_WRITE);
+        try {
+            // 결과 저장 중 레이팅 반영처럼 다른 등급 메서드를 호출해도 자리를 다시 잡지 않음
+            assertThat(bulkheads.enter(TrafficClass.RANK_READ)).isNull();
+            assertThat(bulkheads.get(TrafficClass.RANK_READ).getActiveCount()).isZero();
+            assertThat(Bulkheads.currentStatementTimeoutSeconds()).isEqualTo(10);
+        } finally {
+            Bulkheads.exit(outer);
+        }
+        assertThat(bulkheads.get(TrafficClass.RESULT_WRITE).getActiveCount()).isZero();
+        assertThat(bulkheads.get(TrafficClass.RESULT_WRITE).getAcquiredCount()).isEqualTo(1);
+    }
+
+    private static Bulkheads newBulkheads() {
+        return new Bulkheads(List.of(
+                new Bulkhead(TrafficClass.RANK_READ, 2, Duration.ofMillis(10), Duration.ofSeconds(2)),
+                new Bulkhead(TrafficClass.LOBBY, 2, Duration.ofMillis(10), Duration.ofSeconds(3)),
+                new Bulkhead(TrafficClass.RESULT_WRITE, 4, Duration.ofMillis(10), Duration.ofSeconds(10))),
+                Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,134 @@
+package com.game.warcry.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * 메서드별 타이머 기록, 반환된 상태 코드에 따른 결과 구분, 기록 경로의 무할당 여부를 확인합니다.
+ */
+class MethodTimersTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MethodTimers timers = new MethodTimers(() -> registry, "test.calls", "owner", "Sample",
+            Duration.ofNanos(100_000), Duration.ofSeconds(10));
+
+    @Test
+    void recordsPerMethodAndOutcome() throws Exception {
+        Method lobby = Sample.class.getMethod("lobby");
+        Method rank = Sample.class.getMethod("rank");
+
+        timers.record(lobby, 2_000_000, MethodTimers.Outcome.SUCCESS);
+        timers.record(lobby, 3_000_000, MethodTimers.Outcome.SUCCESS);
+        timers.record(lobby, 1_000_000, MethodTimers.Outcome.ERROR);
+        timers.record(rank, 5_000_000, MethodTimers.Outcome.SUCCESS);
+
+        Timer lobbySuccess = registry.get("test.calls")
+                .tags("owner", "Sample", "method", "lobby", "outcome", "success").timer();
+        assertThat(lobbySuccess.count()).isEqualTo(2);
+        assertThat(registry.get("test.calls").tags("method", "lobby", "outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get("test.calls").tags("method", "rank", "outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void responseStatusDecidesOutcome() throws Throwable {
+        Method lobby = Sample.class.getMethod("lobby");
+        MethodTimers controllerTimers = new MethodTimers(() -> registry, "test.controller", "controller", null,
+                Duration.ofMillis(1), Duration.ofSeconds(30));
+        TimedMethodInterceptor interceptor = new TimedMethodInterceptor(controllerTimers);
+
+        // 컨트롤러는 예외를 잡아 상태 코드로 돌려주므로 상태 코드로 구분
+        interceptor.invoke(invocation(lobby, ResponseEntity.ok("ok")));
+        interceptor.invoke(invocation(lobby, ResponseEntity.badRequest().body("bad")));
+        interceptor.invoke(invocation(lobby, ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build()));
+        interceptor.invoke(invocation(lobby, ResponseEntity.internalServerError().build()));
+        assertThatThrownBy(() -> interceptor.invoke(invocation(lobby, null)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(outcomeCount("success")).isEqualTo(1);
+        assertThat(outcomeCount("client_error")).isEqualTo(1);
+        assertThat(outcomeCount("server_error")).isEqualTo(2);
+        assertThat(outcomeCount("error")).isEqualTo(1);
+        assertThat(registry.get("test.controller").tags("outcome", "success").timer().getId().getTag("controller"))
+                .isEqualTo("Sample");
+    }
+
+    @Test
+    void recordingPathDoesNotAllocate() throws Exception {
+        assumeThat(ManagementFactory.getThreadMXBean()).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Method lobby = Sample.class.getMethod("lobby");
+
+        // 타이머 생성과 JIT 워밍업
+        for (int i = 0; i < 200_000; i++) {
+            timers.record(lobby, 1_000 + i, (i & 7) == 0 ? MethodTimers.Outcome.ERROR : MethodTimers.Outcome.SUCCESS);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            timers.record(lobby, 1_000 + i, (i & 7) == 0 ? MethodTimers.Outcome.ERROR : MethodTimers.Outcome.SUCCESS);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // 측정 호출 자체의 잡음만 허용 (호출당 1바이트 미만)
+        assertThat(allocated).isLessThan(100_000);
+    }
+
+    private long outcomeCount(String outcome) {
+        return registry.get("test.controller").tags("outcome", outcome).timer().count();
+    }
+
+    // result 가 null 이면 예외를 던지는 호출
+    private static MethodInvocation invocation(Method method, Object result) {
+        return new MethodInvocation() {
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Object[] getArguments() {
+                return new Object[0];
+            }
+
+            @Override
+            public Object proceed() {
+                if (result == null) {
+                    throw new IllegalStateException("컨트롤러 밖으로 던져진 예외");
+                }
+                return result;
+            }
+
+            @Override
+            public Object getThis() {
+                return null;
+            }
+
+            @Override
+            public AccessibleObject getStaticPart() {
+                return method;
+            }
+        };
+    }
+
+    public static class Sample {
+        public void lobby() {
+        }
+
+        public void rank() {
+        }
+    }
+}
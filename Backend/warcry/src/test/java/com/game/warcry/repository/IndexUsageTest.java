@@ -0,0 +1,277 @@
+package com.game.warcry.repository;
+
+import com.game.warcry.logging.SampledSqlInspector;
+import com.game.warcry.model.Match;
+import com.game.warcry.model.MatchUser;
+import com.game.warcry.model.User;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션으로 만든 PostgreSQL 스키마에서 핫 쿼리의 실행 계획을 확인합니다.
+ * 리포지토리 메서드를 실제로 호출해 Hibernate 가 만든 SQL 을 그대로 가져오고,
+ * 바인딩 파라미터를 $n 으로 바꿔 EXPLAIN (GENERIC_PLAN) 으로 확인합니다.
+ * (서버 측 prepared statement 가 일정 횟수 이후 사용하는 값 독립 계획)
+ *
+ * 통계가 의미 있도록 데이터를 채우고 ANALYZE 한 뒤, enable_seqscan = off 에서
+ * 각 쿼리를 위해 만든 인덱스가 계획에 나오는지 이름으로 확인합니다.
+ * 기본 키 전체 스캔처럼 "Seq Scan 은 아니지만 엉뚱한 인덱스"를 쓰는 경우도 실패합니다.
+ * ddl-auto: validate 로 기동하므로 마이그레이션과 엔티티 매핑의 불일치도 함께 검출됩니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class IndexUsageTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection explainConnection;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private MatchUserRepository matchUserRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RatingRepository ratingRepository;
+    @Autowired private RatingHistoryRepository ratingHistoryRepository;
+    @Autowired private DailyStatsRepository dailyStatsRepository;
+    @Autowired private GameServerRepository gameServerRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * 테스트 스레드에서 실행된 SQL 을 기록합니다. (다른 스레드의 백그라운드 쿼리는 섞이지 않음)
+     * LoggingConfig 가 hibernate.session_factory.statement_inspector 를 직접 채우므로 속성 대신 표본 SQL 인스펙터 빈을 대체합니다.
+     */
+    static class SqlCapture extends SampledSqlInspector {
+
+        static final ThreadLocal<List<String>> CAPTURED = ThreadLocal.withInitial(ArrayList::new);
+
+        SqlCapture() {
+            super(0);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.get().add(sql);
+            return super.inspect(sql);
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        @Primary
+        SampledSqlInspector sqlCapture() {
+            return new SqlCapture();
+        }
+    }
+
+    @FunctionalInterface
+    interface RepositoryCall {
+        void run(IndexUsageTest test);
+    }
+
+    // 서비스가 실제로 호출하는 리포지토리 메서드와 그 쿼리를 위해 만든 인덱스
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("dedicated lobby", "ix_matches_lobby_dedicated",
+                        call(t -> t.matchRepository.findWaitingDedicated(Limit.of(10)))),
+                Arguments.of("dedicated lobby (public)", "ix_matches_lobby_dedicated",
+                        call(t -> t.matchRepository.findWaitingDedicatedByPrivacy(false, Limit.of(10)))),
+                Arguments.of("listen lobby", "ix_matches_lobby_listen",
+                        call(t -> t.matchRepository.findWaitingListen(Limit.of(10)))),
+                Arguments.of("listen lobby (public)", "ix_matches_lobby_listen",
+                        call(t -> t.matchRepository.findWaitingListenByPrivacy(false, Limit.of(10)))),
+                Arguments.of("playing dedicated matches", "ix_matches_status",
+                        call(t -> t.matchRepository.findDedicatedByStatus(Match.MatchStatus.PLAYING, Limit.of(10)))),
+                Arguments.of("playing listen matches (public)", "ix_matches_status",
+                        call(t -> t.matchRepository.findListenByStatusAndPrivacy(Match.MatchStatus.PLAYING, false, Limit.of(10)))),
+                Arguments.of("lobby hosts", "ix_match_users_match_role",
+                        call(t -> t.matchUserRepository.findWithUserByMatchInAndRole(
+                                List.of(t.match(100L), t.match(200L), t.match(300L)), MatchUser.UserRole.HOST))),
+                Arguments.of("match has host", "ix_match_users_match_role",
+                        call(t -> t.matchUserRepository.existsByMatchAndRole(t.match(100L), MatchUser.UserRole.HOST))),
+                Arguments.of("match participant", "ix_match_users_match_user",
+                        call(t -> t.matchUserRepository.findByMatchAndUser(t.match(100L), t.user(1L)))),
+                Arguments.of("listen host/port", "ix_matches_host",
+                        call(t -> t.matchRepository.findByHostIpAndHostPort("10.0.0.1", 300))),
+                Arguments.of("leaderboard", "ix_ratings_point",
+                        call(t -> t.ratingRepository.findAllByOrderByPointDesc(PageRequest.of(0, 20)))),
+                Arguments.of("tier leaderboard", "ix_ratings_tier_point",
+                        call(t -> t.ratingRepository.findByTierOrderByPointDesc(4, PageRequest.of(0, 20)))),
+                Arguments.of("global rank", "ix_ratings_point",
+                        call(t -> t.ratingRepository.countPlayersWithHigherPoints(1L))),
+                Arguments.of("tier rank", "ix_ratings_tier_point",
+                        call(t -> t.ratingRepository.countPlayersWithHigherPointsInTier(1L, 4))),
+                Arguments.of("history page", "ix_rating_history_user_time",
+                        call(t -> t.ratingHistoryRepository.findHistoryPage(1L, PageRequest.of(0, 20)))),
+                Arguments.of("history count", "ix_rating_history_user_time",
+                        call(t -> t.ratingHistoryRepository.countByUserId(1L))),
+                Arguments.of("daily top player", "ix_daily_stats_date_point",
+                        call(t -> t.dailyStatsRepository.findByDateOrderByHighestPointDesc(LocalDate.now(), PageRequest.of(0, 1)))),
+                Arguments.of("available game server", "ix_game_servers_available",
+                        call(t -> t.gameServerRepository.findFirstAvailableServer())),
+                Arguments.of("username check", "users_username_key",
+                        call(t -> t.userRepository.existsByUsername("player-" + UUID.randomUUID()))),
+                Arguments.of("refresh token by hash", "ux_refresh_tokens_token_hash",
+                        call(t -> t.refreshTokenRepository.findByTokenHash("x"))),
+                Arguments.of("refresh token family revoke", "ix_refresh_tokens_family_id",
+                        call(t -> t.refreshTokenRepository.revokeFamily(UUID.randomUUID()))),
+                Arguments.of("expired refresh tokens", "ix_refresh_tokens_expires_at",
+                        call(t -> t.refreshTokenRepository.deleteExpired(LocalDateTime.now().minusDays(30))))
+        );
+    }
+
+    private static RepositoryCall call(RepositoryCall call) {
+        return call;
+    }
+
+    @BeforeEach
+    void seedOnce() throws SQLException {
+        if (explainConnection != null) {
+            return;
+        }
+        // 종료된 매치가 대부분이고 대기 중인 매치는 소수인, 운영과 비슷한 분포
+        jdbcTemplate.execute("""
+                INSERT INTO users (id, username, password, nickname, created_at)
+                SELECT g, 'seed' || g, 'x', 'seed' || g, now() FROM generate_series(1, 5000) g;
+                INSERT INTO matches (id, title, is_private, status, host_ip, host_port)
+                SELECT g, 'match' || g, g % 10 = 0,
+                       CASE WHEN g % 100 = 0 THEN 'WAITING' WHEN g % 100 = 1 THEN 'PLAYING' ELSE 'ENDED' END,
+                       CASE WHEN g % 3 = 0 THEN '10.0.0.1' END,
+                       CASE WHEN g % 3 = 0 THEN g END
+                FROM generate_series(1, 20000) g;
+                INSERT INTO match_users (id, user_id, match_id, role, result)
+                SELECT g, g % 5000 + 1, g, 'HOST', 'NONE' FROM generate_series(1, 20000) g;
+                INSERT INTO match_users (id, user_id, match_id, role, result)
+                SELECT 20000 + g, (g + 2500) % 5000 + 1, g, 'GUEST', 'NONE' FROM generate_series(1, 20000) g;
+                INSERT INTO ratings (user_id, point, tier, wins, losses, placement_matches_played, placement_done,
+                                     win_streak, lose_streak, version)
+                SELECT g, g * 37 % 3000, g % 8, 0, 0, 5, true, 0, 0, 0 FROM generate_series(1, 5000) g;
+                INSERT INTO rating_history (id, user_id, match_id, point_before, point_after, point_change,
+                                            tier_before, tier_after, winner, change_time)
+                SELECT g, g % 5000 + 1, g, 100, 125, 25, 4, 4, true, now() - g * interval '1 minute'
+                FROM generate_series(1, 20000) g;
+                INSERT INTO daily_stats (id, user_id, date, highest_point, match_count, win_count, lose_count)
+                SELECT u * 10 + d, u, current_date - d, u % 3000, 1, 1, 0
+                FROM generate_series(1, 5000) u, generate_series(0, 6) d;
+                -- 기동 시 DataInitializer 가 시퀀스로 만든 서버와 겹치지 않는 ID
+                INSERT INTO game_servers (id, server_ip, server_port, status)
+                SELECT 1000 + g, '10.0.1.' || g % 250, 7000 + g, CASE WHEN g % 20 = 0 THEN 'AVAILABLE' ELSE 'IN_USE' END
+                FROM generate_series(1, 500) g;
+                INSERT INTO refresh_tokens (id, user_id, token_hash, family_id, expires_at, revoked, created_at)
+                SELECT g, g % 5000 + 1, md5(g::text), gen_random_uuid(), now() + (g % 14) * interval '1 day', false, now()
+                FROM generate_series(1, 20000) g;
+                ANALYZE;
+                """);
+
+        // $n 자리표시자를 그대로 보내야 하므로 simple 프로토콜 전용 커넥션
+        String url = postgres.getJdbcUrl();
+        explainConnection = DriverManager.getConnection(
+                url + (url.contains("?") ? "&" : "?") + "preferQueryMode=simple",
+                postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = explainConnection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void closeExplainConnection() throws SQLException {
+        if (explainConnection != null) {
+            explainConnection.close();
+            explainConnection = null;
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesItsIndex(String name, String expectedIndex, RepositoryCall call) throws SQLException {
+        String sql = capture(call);
+        List<String> plan = explain(sql);
+
+        assertThat(plan).as("plan for %s:%n%s%n%s", name, sql, String.join("\n", plan))
+                .anyMatch(line -> line.contains(" " + expectedIndex))
+                .noneMatch(line -> line.contains("Seq Scan"));
+    }
+
+    // 리포지토리 호출이 실행한 SQL (쓰기 쿼리도 있으므로 롤백)
+    private String capture(RepositoryCall call) {
+        List<String> captured = SqlCapture.CAPTURED.get();
+        captured.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            call.run(this);
+            status.setRollbackOnly();
+        });
+        assertThat(captured).as("리포지토리 호출당 SQL 한 개").hasSize(1);
+        return captured.get(0);
+    }
+
+    private List<String> explain(String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (Statement statement = explainConnection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberPlaceholders(sql))) {
+            while (rs.next()) {
+                lines.add(rs.getString(1));
+            }
+        }
+        return lines;
+    }
+
+    // JDBC 의 ? 를 PostgreSQL 의 $1, $2, ... 로 (Hibernate 가 만든 SQL 에는 문자열 안의 ? 가 없음)
+    private static String numberPlaceholders(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                numbered.append('$').append(++index);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    private Match match(Long id) {
+        return matchRepository.getReferenceById(id);
+    }
+
+    private User user(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+}
@@ -0,0 +1,77 @@
+package com.game.warcry.repository;
+
+import com.game.warcry.model.GameServer;
+import com.game.warcry.model.User;
+import com.game.warcry.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 2차 캐시 테스트.
+ * 한 번 읽은 User(id / username natural-id)와 GameServer는 다시 읽을 때 SQL 없이 캐시에서 해석되어야 합니다.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private GameServerRepository gameServerRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    void userLookupsHitCacheAfterFirstRead() {
+        String name = "l2" + SEQ.incrementAndGet();
+        User saved = userRepository.save(User.builder().username(name).password("x").nickname(name).build());
+        entityManagerFactory.getCache().evict(User.class);
+
+        assertThat(userRepository.findByUsername(name)).isPresent();
+
+        assertThat(queryCounter.count(() ->
+                assertThat(userRepository.findByUsername(name)).get().extracting(User::getId).isEqualTo(saved.getId())))
+                .isZero();
+        assertThat(queryCounter.count(() ->
+                assertThat(userRepository.findById(saved.getId())).get().extracting(User::getNickname).isEqualTo(name)))
+                .isZero();
+    }
+
+    @Test
+    void unknownUsernameIsNotCached() {
+        String name = "l2-missing" + SEQ.incrementAndGet();
+        assertThat(userRepository.findByUsername(name)).isEmpty();
+
+        // 조회 실패는 캐시되지 않으므로 가입 직후에는 바로 보임
+        userRepository.save(User.builder().username(name).password("x").nickname(name).build());
+        assertThat(userRepository.findByUsername(name)).isPresent();
+    }
+
+    @Test
+    void gameServerUpdateIsVisibleThroughCache() {
+        GameServer server = gameServerRepository.save(GameServer.builder()
+                .serverIp("10.2.0." + SEQ.incrementAndGet()).serverPort(7777)
+                .status(GameServer.ServerStatus.AVAILABLE).lastUpdated(LocalDateTime.now()).build());
+        gameServerRepository.findById(server.getId());
+
+        server.setStatus(GameServer.ServerStatus.IN_USE);
+        gameServerRepository.save(server);
+
+        long queries = queryCounter.count(() -> assertThat(gameServerRepository.findById(server.getId())).get()
+                .extracting(GameServer::getStatus).isEqualTo(GameServer.ServerStatus.IN_USE));
+        assertThat(queries).isZero();
+    }
+}
@@ -0,0 +1,80 @@
+package com.game.warcry.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비밀번호 해싱 풀의 입장 제어 테스트.
+ * 예상 대기 시간(대기열 길이 × 평균 해싱 시간)이 max-queue-wait 을 넘으면
+ * 호출한 스레드가 기다리지 않고 바로 거절되는지 확인합니다.
+ * 워커는 래치로 붙잡아 두어 대기열 상태가 실행 시점에 따라 달라지지 않게 합니다.
+ */
+class PasswordHashingExecutorTest {
+
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(
+            1, 8, Duration.ofMillis(50), Duration.ofSeconds(5), Duration.ofSeconds(2));
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        executor.shutdown();
+    }
+
+    @Test
+    void idlePoolRunsTask() {
+        assertThat(executor.execute(() -> "hash")).isEqualTo("hash");
+        assertThat(executor.getHashCount()).isEqualTo(1);
+        assertThat(executor.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenEstimatedWaitExceedsLimit() throws Exception {
+        // 평균 해싱 시간 ≥ 100ms (sleep 은 최소 지정 시간만큼 멈춤)
+        executor.execute(() -> {
+            Thread.sleep(100);
+            return null;
+        });
+
+        // 유일한 워커를 래치로 붙잡아 둔 뒤 작업 하나를 대기열에 넣음 → 예상 대기 ≥ 100ms > 50ms
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> blocking = callers.submit(() -> executor.execute(() -> {
+            started.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        }));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = callers.submit(() -> executor.execute(() -> "queued"));
+        awaitQueueDepth(1);
+
+        assertThatThrownBy(() -> executor.execute(() -> "hash"))
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        // 거절된 작업은 제출되지 않음
+        assertThat(executor.getQueueDepth()).isEqualTo(1);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(blocking.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(executor.getHashCount()).isEqualTo(3);
+    }
+
+    // 호출 스레드가 대기열에 넣을 때까지 대기 (순서는 래치로 정해져 있으므로 시간에 따라 결과가 달라지지 않음)
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getQueueDepth() < depth) {
+            assertThat(System.nanoTime()).as("10초 안에 대기열에 들어가야 함").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.game.warcry.security.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 검증된 JWT 캐시 테스트.
+ * 같은 토큰은 한 번만 검증되고, 검증 실패 토큰은 캐싱되지 않으며, 항목은 토큰의 exp 시각에 사라지는지 확인합니다.
+ * 만료는 테스트가 직접 진행시키는 시계로 확인합니다 (실제 시간을 기다리지 않음).
+ */
+class CachingJwtDecoderTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final ManualClock clock = new ManualClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Test
+    void repeatedTokenIsVerifiedOnceAndCountedAsHit() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(validUntil(Instant.now().plusSeconds(60)), 100);
+
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(2);
+        assertThat(decoder.stats().hitCount()).isEqualTo(1);
+        assertThat(decoder.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidTokenIsNotCached() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            throw new BadJwtException("서명 불일치");
+        }, 100);
+
+        assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(decoder.estimatedSize()).isZero();
+    }
+
+    @Test
+    void entryExpiresAtTokenExp() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(
+                validUntil(clock.instant().plusSeconds(300)), 100, clock, clock::nanos);
+
+        decoder.decode("short-lived");
+        clock.advance(Duration.ofSeconds(299));
+        decoder.decode("short-lived");
+        assertThat(verifications).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        decoder.decode("short-lived");
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNeverReused() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(validUntil(Instant.now().minusSeconds(1)), 100);
+
+        decoder.decode("expired");
+        decoder.decode("expired");
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    // 실제 서명 검증 (Nimbus) 과 함께: 변조된 토큰은 매번 거부
+    @Test
+    void tamperedTokenIsRejectedByRealDecoder() {
+        JWTUtil jwtUtil = new JWTUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "test-secret-string-that-is-at-least-32-bytes");
+        ReflectionTestUtils.setField(jwtUtil, "expirationMillis", 60_000L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaximumSize", 100L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        String token = jwtUtil.generate(1L, "player", "nick");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtUtil.extractUsername(token)).isEqualTo("player");
+        assertThatThrownBy(() -> jwtUtil.extractUsername(tampered)).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.extractUsername(tampered)).isInstanceOf(BadJwtException.class);
+        assertThat(jwtUtil.getVerificationCacheStats().missCount()).isEqualTo(3);
+    }
+
+    // 테스트가 직접 진행시키는 시계 (Caffeine Ticker 로도 사용)
+    private static final class ManualClock extends Clock {
+
+        private final Instant start;
+        private long elapsedNanos;
+
+        ManualClock(Instant start) {
+            this.start = start;
+        }
+
+        void advance(Duration duration) {
+            elapsedNanos += duration.toNanos();
+        }
+
+        long nanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public Instant instant() {
+            return start.plusNanos(elapsedNanos);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private JwtDecoder validUntil(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Jwt.withTokenValue(token)
+                    .header("alg", "HS256")
+                    .subject("player")
+                    .issuedAt(expiresAt.minusSeconds(3600))
+                    .expiresAt(expiresAt)
+                    .build();
+        };
+    }
+}
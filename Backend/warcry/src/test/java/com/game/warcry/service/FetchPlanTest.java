@@ -0,0 +1,183 @@
+package com.game.warcry.service;
+
+import com.game.warcry.dto.listen.ListenMatchDetailResponse;
+import com.game.warcry.dto.match.MatchDetailResponse;
+import com.game.warcry.dto.rank.DailyStatsResponse;
+import com.game.warcry.dto.rank.MatchHistoryDTO;
+import com.game.warcry.model.DailyStats;
+import com.game.warcry.model.GameServer;
+import com.game.warcry.model.Match;
+import com.game.warcry.model.MatchUser;
+import com.game.warcry.model.Rating;
+import com.game.warcry.model.RatingHistory;
+import com.game.warcry.model.User;
+import com.game.warcry.repository.DailyStatsRepository;
+import com.game.warcry.repository.GameServerRepository;
+import com.game.warcry.repository.MatchRepository;
+import com.game.warcry.repository.MatchUserRepository;
+import com.game.warcry.repository.RatingHistoryRepository;
+import com.game.warcry.repository.RatingRepository;
+import com.game.warcry.repository.UserRepository;
+import com.game.warcry.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 엔드포인트별 페치 플랜 테스트.
+ * 연관관계는 모두 LAZY 이므로 트랜잭션 밖에서 응답에 필요한 필드를 읽었을 때
+ * LazyInitializationException 없이 단일 쿼리로 끝나야 합니다.
+ * (COUNT/집계 쿼리는 QueryCountRegressionTest 에서 별도로 확인)
+ */
+@SpringBootTest
+class FetchPlanTest {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired private MatchService matchService;
+    @Autowired private ListenMatchService listenMatchService;
+    @Autowired private RankService rankService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private GameServerRepository gameServerRepository;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private MatchUserRepository matchUserRepository;
+    @Autowired private RatingRepository ratingRepository;
+    @Autowired private RatingHistoryRepository ratingHistoryRepository;
+    @Autowired private DailyStatsRepository dailyStatsRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private QueryCounter queryCounter;
+    private User host;
+    private User guest;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+        host = saveUserWithRating(300);
+        guest = saveUserWithRating(150);
+    }
+
+    // GET /api/match/{matchId}
+    @Test
+    void matchDetailIsSingleQuery() {
+        GameServer server = gameServerRepository.findAll().get(0);
+        Match match = saveMatch(Match.builder().title("detail").isPrivate(false).gameServer(server).build());
+
+        AtomicReference<MatchDetailResponse> response = new AtomicReference<>();
+        long queries = queryCounter.count(() -> response.set(matchService.getMatchDetail(match.getId())));
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(response.get().getMatch().getServerIp()).isEqualTo(server.getServerIp());
+        assertThat(response.get().getMatch().getHostNickname()).isEqualTo(host.getNickname());
+        assertThat(response.get().getMatch().getGuestNickname()).isEqualTo(guest.getNickname());
+    }
+
+    // GET /api/listen/match/{matchId}
+    @Test
+    void listenMatchDetailIsSingleQuery() {
+        Match match = saveMatch(Match.builder().title("listen detail").isPrivate(false)
+                .hostIp("10.1.0.1").hostPort(20000 + SEQ.incrementAndGet()).build());
+
+        AtomicReference<ListenMatchDetailResponse> response = new AtomicReference<>();
+        long queries = queryCounter.count(() -> response.set(listenMatchService.getMatchDetail(match.getId())));
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(response.get().getMatch().getHostNickname()).isEqualTo(host.getNickname());
+        assertThat(response.get().getMatch().getGuestNickname()).isEqualTo(guest.getNickname());
+    }
+
+    // GET /api/rank/leaderboard (페이지 조회, 엔티티 그래프 Rating.withUser)
+    @Test
+    void leaderboardPageIsSingleQuery() {
+        long queries = queryCounter.count(() -> {
+            List<Rating> page = ratingRepository.findAllByOrderByPointDesc(PageRequest.of(0, 20));
+            page.forEach(rating -> assertThat(rating.getUser().getNickname()).isNotNull());
+        });
+
+        assertThat(queries).isEqualTo(1);
+    }
+
+    // GET /api/rank/player/{userId} (레이팅 조회, 유저 정보는 캐시)
+    @Test
+    void playerRatingIsSingleQueryWithoutUserJoin() {
+        long queries = queryCounter.count(() -> assertThat(ratingRepository.findByUserId(host.getId())).isPresent());
+
+        assertThat(queries).isEqualTo(1);
+    }
+
+    // GET /api/rank/history/{userId} (DTO 프로젝션)
+    @Test
+    void historyPageIsSingleQuery() {
+        Match match = saveMatch(Match.builder().title("history").isPrivate(false).build());
+        ratingHistoryRepository.save(RatingHistory.createHistory(host, match, 275, 300, 3, 2, true));
+
+        AtomicReference<List<MatchHistoryDTO>> page = new AtomicReference<>();
+        long queries = queryCounter.count(() ->
+                page.set(ratingHistoryRepository.findHistoryPage(host.getId(), PageRequest.of(0, 20))));
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(page.get()).singleElement()
+                .satisfies(row -> assertThat(row.getOpponentNickname()).isEqualTo(guest.getNickname()));
+    }
+
+    // GET /api/rank/daily/{userId}
+    @Test
+    void userDailyStatsIsSingleQuery() {
+        LocalDate today = LocalDate.now();
+        dailyStatsRepository.save(DailyStats.createOrUpdate(null, host, 300, true));
+        String day = today.format(DateTimeFormatter.BASIC_ISO_DATE);
+        rankService.getUserDailyStats(host.getId(), day, day); // 유저 캐시 워밍업
+
+        AtomicReference<DailyStatsResponse> response = new AtomicReference<>();
+        long queries = queryCounter.count(() -> response.set(rankService.getUserDailyStats(host.getId(), day, day)));
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(response.get().getStats()).hasSize(1);
+    }
+
+    // GET /api/rank/daily (최고 포인트 플레이어, 엔티티 그래프 DailyStats.withUser)
+    @Test
+    void dailyTopPlayerIsSingleQuery() {
+        dailyStatsRepository.save(DailyStats.createOrUpdate(null, guest, 150, false));
+
+        long queries = queryCounter.count(() -> {
+            List<DailyStats> top = dailyStatsRepository.findByDateOrderByHighestPointDesc(LocalDate.now(), PageRequest.of(0, 1));
+            assertThat(top).singleElement().satisfies(stats -> assertThat(stats.getUser().getNickname()).isNotNull());
+        });
+
+        assertThat(queries).isEqualTo(1);
+    }
+
+    private Match saveMatch(Match match) {
+        Match saved = matchRepository.save(match);
+        matchUserRepository.saveAll(List.of(
+                MatchUser.builder().match(saved).user(host).role(MatchUser.UserRole.HOST).build(),
+                MatchUser.builder().match(saved).user(guest).role(MatchUser.UserRole.GUEST).build()));
+        return saved;
+    }
+
+    private User saveUserWithRating(int point) {
+        String name = "fp" + SEQ.incrementAndGet();
+        User user = userRepository.save(User.builder().username(name).password("x").nickname(name).build());
+        // @MapsId 의 user 는 영속 상태여야 하므로 한 트랜잭션 안에서 저장
+        transactionTemplate.executeWithoutResult(status -> {
+            Rating rating = Rating.initializeRating(userRepository.getReferenceById(user.getId()));
+            rating.setPoint(point);
+            ratingRepository.save(rating);
+        });
+        return user;
+    }
+}
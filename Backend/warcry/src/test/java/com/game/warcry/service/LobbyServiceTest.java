@@ -0,0 +1,140 @@
+package com.game.warcry.service;
+
+import com.game.warcry.dto.match.MatchCreateRequest;
+import com.game.warcry.dto.match.MatchJoinRequest;
+import com.game.warcry.dto.match.MatchJoinResponse;
+import com.game.warcry.model.GameServer;
+import com.game.warcry.model.Match;
+import com.game.warcry.model.User;
+import com.game.warcry.repository.GameServerRepository;
+import com.game.warcry.repository.MatchRepository;
+import com.game.warcry.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로비 목록 조회 테스트.
+ * 오래된 매치부터(id 오름차순) 반환하고, limit 기본값/상한이 적용되며,
+ * 전용 서버 / Listen 서버 구분이 Match.isListenServer() 와 같은지 확인합니다.
+ * 게스트가 참가해 인원이 찬 매치는 PLAYING 으로 옮겨져 대기 목록에서 빠져야 합니다.
+ */
+@SpringBootTest
+class LobbyServiceTest {
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired private LobbyService lobbyService;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private MatchService matchService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private GameServerRepository gameServerRepository;
+
+    @Test
+    void lobbyIsOldestFirstWithDefaultLimit() {
+        saveMatches(15, false, null, null);
+
+        List<LobbyService.Entry> lobby = lobbyService.getLobby(LobbyService.Kind.DEDICATED, false, "WAITING", null);
+
+        assertThat(lobby).hasSize(10);
+        assertThat(lobby).extracting(entry -> entry.match().getId()).isSorted();
+    }
+
+    @Test
+    void limitIsCappedAtHundred() {
+        saveMatches(105, false, "10.0.0.2", 7000);
+
+        List<LobbyService.Entry> lobby = lobbyService.getLobby(LobbyService.Kind.LISTEN, null, "WAITING", 1000);
+
+        assertThat(lobby).hasSize(100);
+        assertThat(lobby).extracting(entry -> entry.match().getId()).isSorted();
+    }
+
+    @Test
+    void matchKindFollowsIsListenServer() {
+        Match listen = saveMatches(1, false, "10.0.0.3", 7777).get(0);
+        Match ipOnly = saveMatches(1, false, "10.0.0.3", null).get(0);
+        Match dedicated = saveMatches(1, false, null, null).get(0);
+        assertThat(ipOnly.isListenServer()).isFalse();
+
+        assertThat(matchRepository.findWaitingListen(Limit.unlimited())).extracting(Match::getId)
+                .contains(listen.getId())
+                .doesNotContain(ipOnly.getId(), dedicated.getId());
+        assertThat(matchRepository.findWaitingDedicated(Limit.unlimited())).extracting(Match::getId)
+                .contains(ipOnly.getId(), dedicated.getId())
+                .doesNotContain(listen.getId());
+    }
+
+    @Test
+    void optionalFiltersAreApplied() {
+        Match privateMatch = saveMatches(1, true, null, null).get(0);
+        Match publicMatch = saveMatches(1, false, null, null).get(0);
+
+        assertThat(matchRepository.findWaitingDedicatedByPrivacy(true, Limit.unlimited()))
+                .allMatch(Match::getIsPrivate)
+                .extracting(Match::getId).contains(privateMatch.getId()).doesNotContain(publicMatch.getId());
+        assertThat(matchRepository.findDedicatedByStatus(Match.MatchStatus.PLAYING, Limit.unlimited()))
+                .extracting(Match::getId).doesNotContain(privateMatch.getId(), publicMatch.getId());
+        assertThat(matchRepository.findDedicated(Limit.unlimited()))
+                .extracting(Match::getId).contains(privateMatch.getId(), publicMatch.getId());
+    }
+
+    @Test
+    void fullMatchMovesToPlaying() {
+        User host = saveUser("lobby-host");
+        User guest = saveUser("lobby-guest");
+        gameServerRepository.save(GameServer.builder()
+                .serverIp("127.0.0.1")
+                .serverPort(9200 + SEQ.incrementAndGet())
+                .status(GameServer.ServerStatus.AVAILABLE)
+                .lastUpdated(LocalDateTime.now())
+                .build());
+
+        long matchId = matchService.createMatch(host.getId(),
+                MatchCreateRequest.builder().title("lobby-full").isPrivate(false).build()).getMatchId();
+        assertThat(lobbyService.getLobby(LobbyService.Kind.DEDICATED, false, "WAITING", 100))
+                .extracting(entry -> entry.match().getId()).contains(matchId);
+
+        MatchJoinResponse joined = matchService.joinMatch(matchId, guest.getId(), new MatchJoinRequest());
+
+        assertThat(joined.getStatus()).isEqualTo("PLAYING");
+        assertThat(matchRepository.findById(matchId)).get()
+                .satisfies(match -> assertThat(match.getStartTime()).isNotNull());
+        assertThat(lobbyService.getLobby(LobbyService.Kind.DEDICATED, false, "WAITING", 100))
+                .extracting(entry -> entry.match().getId()).doesNotContain(matchId);
+        assertThat(lobbyService.getLobby(LobbyService.Kind.DEDICATED, false, "PLAYING", 100))
+                .extracting(entry -> entry.match().getId()).contains(matchId);
+    }
+
+    @Test
+    void unknownStatusReturnsEmptyList() {
+        assertThat(lobbyService.getLobby(LobbyService.Kind.DEDICATED, null, "UNKNOWN", 10)).isEmpty();
+    }
+
+    private List<Match> saveMatches(int count, boolean isPrivate, String hostIp, Integer basePort) {
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int seq = SEQ.incrementAndGet();
+            matches.add(Match.builder()
+                    .title("lobby-" + seq)
+                    .isPrivate(isPrivate)
+                    .hostIp(hostIp)
+                    .hostPort(basePort == null ? null : basePort + seq)
+                    .build());
+        }
+        return matchRepository.saveAll(matches);
+    }
+
+    private User saveUser(String prefix) {
+        String name = prefix + System.nanoTime();
+        return userRepository.save(User.builder().username(name).password("x").nickname(name).build());
+    }
+}
@@ -0,0 +1,169 @@
+package com.game.warcry.service;
+
+import com.game.warcry.cache.UsernameBloomFilter;
+import com.game.warcry.model.Match;
+import com.game.warcry.model.MatchUser;
+import com.game.warcry.model.Rating;
+import com.game.warcry.model.RatingHistory;
+import com.game.warcry.model.User;
+import com.game.warcry.repository.MatchRepository;
+import com.game.warcry.repository.MatchUserRepository;
+import com.game.warcry.repository.RatingHistoryRepository;
+import com.game.warcry.repository.RatingRepository;
+import com.game.warcry.repository.UserRepository;
+import com.game.warcry.support.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출당 SQL 실행 횟수 회귀 테스트.
+ * 데이터를 여러 크기로 늘려 가며 측정해 쿼리 수가 행 수에 따라 늘지 않는지(N+1이 없는지) 확인합니다.
+ */
+@SpringBootTest
+class QueryCountRegressionTest {
+
+    private static final int[] SIZES = {10, 100, 500};
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired private MatchService matchService;
+    @Autowired private ListenMatchService listenMatchService;
+    @Autowired private RankService rankService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private MatchUserRepository matchUserRepository;
+    @Autowired private RatingRepository ratingRepository;
+    @Autowired private RatingHistoryRepository ratingHistoryRepository;
+    @Autowired private UsernameBloomFilter usernameBloomFilter;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        queryCounter = new QueryCounter(entityManagerFactory);
+
+        // 시작 시 비동기로 도는 username 필터 로딩 쿼리가 측정에 섞이지 않도록 대기
+        for (int i = 0; i < 100 && !usernameBloomFilter.isReady(); i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    void lobbyListUsesAtMostTwoQueries() {
+        assertQueryCountStable(2, this::seedWaitingMatches,
+                () -> matchService.getMatches(false, "WAITING", 10));
+    }
+
+    @Test
+    void listenLobbyListUsesAtMostTwoQueries() {
+        assertQueryCountStable(2, this::seedWaitingListenMatches,
+                () -> listenMatchService.getMatches(false, "WAITING", 10));
+    }
+
+    @Test
+    void matchHistoryPageUsesAtMostTwoQueries() {
+        User player = saveUser();
+        assertQueryCountStable(2, count -> seedHistory(player, count),
+                () -> rankService.getMatchHistory(player.getId(), 0, 20));
+    }
+
+    @Test
+    void leaderboardPageUsesAtMostTwoQueries() {
+        assertQueryCountStable(2, this::seedRatings,
+                () -> rankService.getLeaderboard(null, 0, 20));
+        assertQueryCountStable(2, this::seedRatings,
+                () -> rankService.getLeaderboard(4, 0, 20));
+    }
+
+    // 크기별로 데이터를 추가하며 측정: 모든 크기에서 max 이하이고 크기가 커져도 늘지 않아야 함
+    private void assertQueryCountStable(long max, IntConsumer seeder, Runnable action) {
+        List<Long> counts = new ArrayList<>();
+        int seeded = 0;
+        for (int size : SIZES) {
+            seeder.accept(size - seeded);
+            seeded = size;
+
+            action.run(); // 유저 캐시 등 워밍업
+            counts.add(queryCounter.count(action));
+        }
+
+        assertThat(counts).as("SQL statements per call at sizes %s", Arrays.toString(SIZES))
+                .allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(max));
+        assertThat(counts).as("SQL statements must not grow with row count").containsOnly(counts.get(0));
+    }
+
+    private void seedWaitingMatches(int count) {
+        seedMatches(count, false);
+    }
+
+    private void seedWaitingListenMatches(int count) {
+        seedMatches(count, true);
+    }
+
+    private void seedMatches(int count, boolean listen) {
+        List<Match> matches = new ArrayList<>();
+        List<MatchUser> hosts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User host = saveUser();
+            int seq = SEQ.incrementAndGet();
+            Match match = Match.builder()
+                    .title("match-" + seq)
+                    .isPrivate(false)
+                    .hostIp(listen ? "10.0.0.1" : null)
+                    .hostPort(listen ? 10000 + seq : null)
+                    .build();
+            matches.add(match);
+            hosts.add(MatchUser.builder().match(match).user(host).role(MatchUser.UserRole.HOST).build());
+        }
+        matchRepository.saveAll(matches);
+        matchUserRepository.saveAll(hosts);
+    }
+
+    private void seedHistory(User player, int count) {
+        List<Match> matches = new ArrayList<>();
+        List<MatchUser> participants = new ArrayList<>();
+        List<RatingHistory> histories = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User opponent = saveUser();
+            Match match = Match.builder().title("history-" + SEQ.incrementAndGet()).isPrivate(false).build();
+            matches.add(match);
+            participants.add(MatchUser.builder().match(match).user(player).role(MatchUser.UserRole.HOST).build());
+            participants.add(MatchUser.builder().match(match).user(opponent).role(MatchUser.UserRole.GUEST).build());
+            histories.add(RatingHistory.createHistory(player, match, 100, 125, 4, 4, true));
+        }
+        matchRepository.saveAll(matches);
+        matchUserRepository.saveAll(participants);
+        ratingHistoryRepository.saveAll(histories);
+    }
+
+    private void seedRatings(int count) {
+        for (int i = 0; i < count; i++) {
+            int point = i % 200;
+            User user = saveUser();
+            // @MapsId 의 user 는 영속 상태여야 하므로 한 트랜잭션 안에서 저장
+            transactionTemplate.executeWithoutResult(status -> {
+                Rating rating = Rating.initializeRating(userRepository.getReferenceById(user.getId()));
+                rating.setPoint(point);
+                ratingRepository.save(rating);
+            });
+        }
+    }
+
+    private User saveUser() {
+        String name = "qc" + SEQ.incrementAndGet();
+        return userRepository.save(User.builder().username(name).password("x").nickname(name).build());
+    }
+}
@@ -0,0 +1,121 @@
+package com.game.warcry.service;
+
+import com.game.warcry.model.RefreshToken;
+import com.game.warcry.repository.RefreshTokenRepository;
+import com.game.warcry.security.InvalidRefreshTokenException;
+import com.game.warcry.security.TokenDigests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 회전 테스트.
+ * 테스트 자체는 트랜잭션 없이 실행하므로, 재사용 감지 시 예외와 함께 family 폐기가 커밋되는지(noRollbackFor)도 확인됩니다.
+ * 유예 시간(jwt.refresh-reuse-grace, 기본 10초)이 지난 재사용은 used_at 을 과거로 옮겨 재현합니다.
+ */
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    private static final AtomicLong USER_IDS = new AtomicLong(900_000);
+
+    @Autowired private RefreshTokenService refreshTokenService;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void rotationIssuesNextTokenInSameFamily() {
+        Long userId = USER_IDS.incrementAndGet();
+        String first = refreshTokenService.issue(userId);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(first);
+
+        assertThat(rotation.userId()).isEqualTo(userId);
+        assertThat(rotation.refreshToken()).isNotEqualTo(first);
+        RefreshToken used = stored(first);
+        RefreshToken next = stored(rotation.refreshToken());
+        assertThat(used.getUsedAt()).isNotNull();
+        assertThat(next.getUsedAt()).isNull();
+        assertThat(next.getFamilyId()).isEqualTo(used.getFamilyId());
+        // 원문은 저장하지 않음
+        assertThat(next.getTokenHash()).isNotEqualTo(rotation.refreshToken());
+    }
+
+    @Test
+    void retryWithinGraceFailsWithoutRevoking() {
+        String first = refreshTokenService.issue(USER_IDS.incrementAndGet());
+        String second = refreshTokenService.rotate(first).refreshToken();
+
+        // 응답을 못 받은 클라이언트가 같은 토큰으로 재시도
+        assertThatThrownBy(() -> refreshTokenService.rotate(first))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        // 첫 요청이 받은 토큰은 그대로 사용 가능
+        assertThat(stored(first).getRevoked()).isFalse();
+        assertThat(stored(second).getRevoked()).isFalse();
+        assertThat(refreshTokenService.rotate(second).refreshToken()).isNotNull();
+    }
+
+    @Test
+    void reusedTokenRevokesWholeFamily() {
+        String first = refreshTokenService.issue(USER_IDS.incrementAndGet());
+        String second = refreshTokenService.rotate(first).refreshToken();
+        rotatedLongAgo(first);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(first))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        // 예외로 끝났어도 폐기는 커밋되어, 정상 사용자가 가진 다음 토큰까지 쓸 수 없음
+        assertThat(stored(first).getRevoked()).isTrue();
+        assertThat(stored(second).getRevoked()).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.rotate(second))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void otherFamiliesOfSameUserAreNotRevoked() {
+        Long userId = USER_IDS.incrementAndGet();
+        String stolen = refreshTokenService.issue(userId);
+        String otherDevice = refreshTokenService.issue(userId);
+        refreshTokenService.rotate(stolen);
+        rotatedLongAgo(stolen);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(stolen))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        assertThat(refreshTokenService.rotate(otherDevice).userId()).isEqualTo(userId);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = refreshTokenService.issue(USER_IDS.incrementAndGet());
+        RefreshToken stored = stored(token);
+        stored.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        refreshTokenRepository.save(stored);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("만료");
+        assertThat(stored(token).getUsedAt()).isNull();
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        assertThatThrownBy(() -> refreshTokenService.rotate("not-a-token"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    private void rotatedLongAgo(String rawToken) {
+        RefreshToken used = stored(rawToken);
+        used.setUsedAt(LocalDateTime.now().minusMinutes(1));
+        refreshTokenRepository.save(used);
+    }
+
+    private RefreshToken stored(String rawToken) {
+        return refreshTokenRepository.findByTokenHash(TokenDigests.sha256(rawToken)).orElseThrow();
+    }
+}
@@ -0,0 +1,26 @@
+package com.game.warcry.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Hibernate Statistics 기반 SQL 실행 횟수 측정기.
+ * Statistics는 SessionFactory 전역이므로 측정 중에는 다른 스레드의 쿼리가 없어야 합니다.
+ */
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    // action 실행 중 준비된 JDBC statement 수
+    public long count(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,69 @@
+package com.game.warcry.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구간 트리 구성, DB 시간 합산, OTLP-JSON 직렬화 확인.
+ */
+class RequestTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        Tracer.clear();
+    }
+
+    @Test
+    void nestedRepositoryCallsAreCountedOnceAsDbTime() throws Exception {
+        RequestTrace trace = Tracer.begin(RequestTrace.newTraceId(), "req-1", "GET /api/rank/history");
+
+        Span service = trace.open(Span.Kind.INTERNAL, "RankServiceImpl.getMatchHistory");
+        Span repository = trace.open(Span.Kind.CLIENT, "MatchUserRepository.findHostNicknames");
+        Span nested = trace.open(Span.Kind.CLIENT, "MatchUserRepository.findWithUserByMatchInAndRole");
+        Thread.sleep(2);
+        trace.close(nested, false);
+        trace.close(repository, false);
+        trace.close(service, false);
+        trace.finish("GET /api/rank/history/{userId}", false);
+
+        assertThat(nested.getParent()).isSameAs(repository);
+        assertThat(repository.getParent()).isSameAs(service);
+        assertThat(service.getParent()).isSameAs(trace.root());
+        assertThat(trace.dbNanos()).isEqualTo(repository.durationNanos());
+        assertThat(trace.dbNanos()).isLessThanOrEqualTo(trace.root().durationNanos());
+    }
+
+    @Test
+    void exportsOtlpJson() throws Exception {
+        RequestTrace trace = Tracer.begin(RequestTrace.newTraceId(), "req-2", "POST /api/match/1/result");
+        Span service = trace.open(Span.Kind.INTERNAL, "MatchServiceImpl.saveMatchResult")
+                .attribute("code.function", "saveMatchResult");
+        trace.close(service, true);
+        trace.root().attribute("http.response.status_code", 500);
+        trace.finish("POST /api/match/{matchId}/result", true);
+
+        JsonNode root = new ObjectMapper().readTree(new OtlpJsonExporter("warcry").toJson(trace));
+        JsonNode spans = root.at("/resourceSpans/0/scopeSpans/0/spans");
+
+        assertThat(root.at("/resourceSpans/0/resource/attributes/0/value/stringValue").asText()).isEqualTo("warcry");
+        assertThat(spans).hasSize(2);
+        assertThat(spans.get(0).get("traceId").asText()).hasSize(32).isEqualTo(trace.traceId());
+        assertThat(spans.get(0).get("name").asText()).isEqualTo("POST /api/match/{matchId}/result");
+        assertThat(spans.get(0).get("kind").asInt()).isEqualTo(2);
+        assertThat(spans.get(0).has("parentSpanId")).isFalse();
+        assertThat(spans.get(1).get("parentSpanId").asText()).isEqualTo(spans.get(0).get("spanId").asText());
+        assertThat(spans.get(1).at("/status/code").asInt()).isEqualTo(2);
+        assertThat(Long.parseLong(spans.get(1).get("endTimeUnixNano").asText()))
+                .isGreaterThanOrEqualTo(Long.parseLong(spans.get(1).get("startTimeUnixNano").asText()));
+    }
+
+    @Test
+    void serverTimingSplitsDbAndApplicationTime() {
+        assertThat(ServerTimingAdvice.serverTiming(3_000_000, 10_000_000))
+                .isEqualTo("db;dur=3.00, app;dur=7.00, total;dur=10.00");
+    }
+}